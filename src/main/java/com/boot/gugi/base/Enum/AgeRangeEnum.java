@@ -39,4 +39,11 @@ public enum AgeRangeEnum implements Translate {
         }
         throw new IllegalArgumentException("No enum constant for age range: " + ageRange);
     }
+
+    public static AgeRangeEnum fromAge(Integer age) {
+        if (age == null) return null;
+        if (age < 20) return AGE_10s;
+        if (age < 30) return AGE_20s;
+        return AGE_30s;
+    }
 }
@@ -22,6 +22,7 @@ public enum TeamEnum implements Translate {
     private final String displayNameKorean;
     private final String shortName;
     private final String lowerCase;
+    private final String displayShortNameKorean;
     private static final Map<String, TeamEnum> KOREAN_NAME_MAP = new HashMap<>();
 
     static {
@@ -37,6 +38,7 @@ public enum TeamEnum implements Translate {
         this.displayNameKorean = displayNameKorean;
         this.shortName = shortName;
         this.lowerCase = lowerCase;
+        this.displayShortNameKorean = displayNameKorean.split(" ")[0];
     }
 
     public Integer getId() {
@@ -47,6 +49,10 @@ public enum TeamEnum implements Translate {
         return displayNameKorean;
     }
 
+    public String toShortKorean() {
+        return displayShortNameKorean;
+    }
+
     public static TeamEnum fromString(String teamName) {
         TeamEnum team = KOREAN_NAME_MAP.get(teamName);
         if (team != null) {
@@ -1,5 +1,8 @@
 package com.boot.gugi.base.dto;
 
+import com.boot.gugi.base.Enum.GameResultEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -7,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.UUID;
 
 public class DiaryDTO {
@@ -35,6 +39,7 @@ public class DiaryDTO {
         private String awayTeam;
         private String gameResult;
         private String gameImg;
+        private String nextCursor;
     }
 
     @Data
@@ -63,4 +68,45 @@ public class DiaryDTO {
         private Integer totalDiaryCount;
         private Integer totalWins;
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DiaryGame {
+        private LocalDate gameDate;
+        private StadiumEnum gameStadium;
+        private TeamEnum homeTeam;
+        private TeamEnum awayTeam;
+        private GameResultEnum gameResult;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DiaryChangedEvent {
+        private UUID userId;
+        private DiaryGame previous;
+        private DiaryGame current;
+        private long changedAt;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResultCount {
+        private Long wins;
+        private Long losses;
+        private Long draws;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatsResponse {
+        private Map<String, ResultCount> opponent;
+        private Map<String, ResultCount> stadium;
+        private Map<String, ResultCount> side;
+        private Map<String, ResultCount> month;
+        private Map<String, ResultCount> weekday;
+    }
 }
\ No newline at end of file
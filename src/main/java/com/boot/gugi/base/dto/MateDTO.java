@@ -1,11 +1,17 @@
 package com.boot.gugi.base.dto;
 
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import com.boot.gugi.model.MatePost;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 public class MateDTO {
@@ -42,6 +48,8 @@ public class MateDTO {
         private Integer daysSinceWritten;
         private Integer daysUntilGame;
         private Integer confirmedMembers;
+        private Long viewCount;
+        private Long uniqueViewerCount;
         private LocalDateTime updatedAt;
         private ResponseOption options;
     }
@@ -56,10 +64,60 @@ public class MateDTO {
         private Integer daysSinceWritten;
         private Integer daysUntilGame;
         private Integer confirmedMembers;
+        private Long viewCount;
+        private Long uniqueViewerCount;
         private String nextCursor;
         private ResponseOption options;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResponseDetail {
+        private UUID mateId;
+        private String title;
+        private String content;
+        private String nickName;
+        private Long applicantCount;
+        private Integer daysSinceWritten;
+        private Integer daysUntilGame;
+        private Integer confirmedMembers;
+        private Long viewCount;
+        private Long uniqueViewerCount;
+        private LocalDateTime updatedAt;
+        private ResponseOption options;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MateCard {
+        private UUID mateId;
+        private String title;
+        private String content;
+        private LocalDate gameDate;
+        private Integer confirmedMembers;
+        private LocalDateTime updatedAt;
+        private ResponseOption options;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MateDetail {
+        private MateCard card;
+        private String nickName;
+        private Long applicantCount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ViewCount {
+        private Long viewCount;
+        private Long uniqueViewerCount;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -71,4 +129,98 @@ public class MateDTO {
         private Integer member;
         private String stadium;
     }
-}
\ No newline at end of file
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchResponse {
+        private UUID searchId;
+        private RequestOption options;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchAlert {
+        private UUID searchId;
+        private UUID mateId;
+        private String title;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MatePostSavedEvent {
+        private MatePost post;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MateMembersChangedEvent {
+        private MatePost post;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QuickMatchRequest {
+        private LocalDate date;
+        private String stadium;
+        private String team;
+        private String gender;
+        private String age;
+        private Integer member;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QuickMatchResponse {
+        private String status;
+        private UUID mateId;
+        private Integer waiting;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QuickMatchTicket {
+        private UUID userId;
+        private LocalDate date;
+        private StadiumEnum stadium;
+        private TeamEnum team;
+        private Integer gender;
+        private AgeRangeEnum age;
+        private GenderEnum genderPreference;
+        private AgeRangeEnum agePreference;
+        private Integer partySize;
+        private LocalDateTime enqueuedAt;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GameBoardGame {
+        private String homeTeam;
+        private String awayTeam;
+        private String homeImg;
+        private String awayImg;
+        private String gameTime;
+        private String stadium;
+        private String cancellationReason;
+        private Long openPostCount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetResponse {
+        private Map<String, Long> team;
+        private Map<String, Long> stadium;
+        private Map<String, Long> date;
+        private Map<String, Long> gender;
+        private Map<String, Long> age;
+        private Map<String, Long> member;
+    }
+}
@@ -4,7 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class MatePostStatusDTO {
@@ -17,6 +19,10 @@ public class MatePostStatusDTO {
         private List<RequestedPostStatusDTO> pending;
         private List<AcceptedPostStatusDTO> accepted;
         private List<RequestedPostStatusDTO> rejected;
+        private String notificationCursor;
+        private String pendingCursor;
+        private String acceptedCursor;
+        private String rejectedCursor;
     }
 
     @Data
@@ -29,6 +35,39 @@ public class MatePostStatusDTO {
         private ApplicantInfo applicantInfo;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RankedApplicantDTO {
+        private UUID requestId;
+        private String nickName;
+        private Integer compatibility;
+        private Integer daysSinceApplied;
+        private String nextCursor;
+        private ApplicantInfo applicantInfo;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class InboxItemDTO {
+        private String inboxId;
+        private String type;
+        private UUID requestId;
+        private UUID mateId;
+        private String title;
+        private String nickName;
+        private LocalDateTime createdAt;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class InboxAppendedEvent {
+        private UUID userId;
+        private Map<String, String> fields;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.UUID;
+
 public class UserDTO {
 
     @Data
@@ -24,4 +26,11 @@ public class UserDTO {
         private String team;
         private String introduction;
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserUpdatedEvent {
+        private UUID userId;
+    }
 }
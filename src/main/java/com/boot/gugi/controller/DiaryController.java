@@ -5,6 +5,7 @@ import com.boot.gugi.base.dto.DiaryDTO;
 import com.boot.gugi.base.status.SuccessStatus;
 import com.boot.gugi.model.Diary;
 import com.boot.gugi.service.DiaryService;
+import com.boot.gugi.service.DiaryStatsService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -23,6 +24,7 @@ import java.util.UUID;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final DiaryStatsService diaryStatsService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Diary>> createDiary(HttpServletRequest request, HttpServletResponse response,
@@ -55,13 +57,22 @@ public class DiaryController {
     }
 
     @GetMapping(value = "/all")
-    public ResponseEntity<ApiResponse<List<DiaryDTO.DiarySingleDto>>> getAllDiaries(HttpServletRequest request, HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<List<DiaryDTO.DiarySingleDto>>> getAllDiaries(HttpServletRequest request, HttpServletResponse response,
+                                                                                    @RequestParam(required = false) String cursor) {
 
-        List<DiaryDTO.DiarySingleDto> diaryList = diaryService.getAllDiary(request, response);
+        List<DiaryDTO.DiarySingleDto> diaryList = diaryService.getAllDiary(request, response, cursor);
 
         return ApiResponse.onSuccess(SuccessStatus._GET, diaryList);
     }
 
+    @GetMapping(value = "/stats")
+    public ResponseEntity<ApiResponse<DiaryDTO.StatsResponse>> getMyStats(HttpServletRequest request, HttpServletResponse response) {
+
+        DiaryDTO.StatsResponse myStats = diaryStatsService.getMyStats(request, response);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, myStats);
+    }
+
     @GetMapping(value = "/win-rate")
     public ResponseEntity<ApiResponse<DiaryDTO.WinRateResponse>> getMyWinRate(HttpServletRequest request, HttpServletResponse response) {
 
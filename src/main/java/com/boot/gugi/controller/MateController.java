@@ -72,6 +72,94 @@ public class MateController {
         return ApiResponse.onSuccess(SuccessStatus._GET, matePostList);
     }
 
+    @GetMapping(value = "/recommended")
+    public ResponseEntity<ApiResponse<List<MateDTO.ResponseByRelevance>>> getRecommendedMatePosts(
+            HttpServletRequest request, HttpServletResponse response,
+            @RequestParam(required = false) String cursor) {
+
+        List<MateDTO.ResponseByRelevance> matePostList = mateService.getRecommendedPosts(request, response, cursor);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, matePostList);
+    }
+
+    @GetMapping(value = "/trending")
+    public ResponseEntity<ApiResponse<List<MateDTO.ResponseByRelevance>>> getTrendingMatePosts(
+            @RequestParam(required = false) String cursor) {
+
+        List<MateDTO.ResponseByRelevance> matePostList = mateService.getTrendingPosts(cursor);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, matePostList);
+    }
+
+    @GetMapping(value = "/search")
+    public ResponseEntity<ApiResponse<List<MateDTO.ResponseByRelevance>>> searchMatePosts(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) LocalDate date,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) String age,
+            @RequestParam(required = false) String team,
+            @RequestParam(required = false) String stadium,
+            @RequestParam(required = false) Integer member) {
+
+        MateDTO.RequestOption matePostOptions = new MateDTO.RequestOption(gender, age, date, team, member, stadium);
+        List<MateDTO.ResponseByRelevance> matePostList = mateService.searchMatePosts(keyword, cursor, matePostOptions);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, matePostList);
+    }
+
+    @GetMapping(value = "/strict")
+    public ResponseEntity<ApiResponse<List<MateDTO.ResponseByRelevance>>> getMatePostsMatchingAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) LocalDate date,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) String age,
+            @RequestParam(required = false) String team,
+            @RequestParam(required = false) String stadium,
+            @RequestParam(required = false) Integer member) {
+
+        MateDTO.RequestOption matePostOptions = new MateDTO.RequestOption(gender, age, date, team, member, stadium);
+        List<MateDTO.ResponseByRelevance> matePostList = mateService.getAllPostsMatchingAll(cursor, matePostOptions);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, matePostList);
+    }
+
+    @GetMapping(value = "/games")
+    public ResponseEntity<ApiResponse<List<MateDTO.GameBoardGame>>> getGameBoard(@RequestParam LocalDate date) {
+
+        List<MateDTO.GameBoardGame> games = mateService.getGameBoard(date);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, games);
+    }
+
+    @GetMapping(value = "/games/posts")
+    public ResponseEntity<ApiResponse<List<MateDTO.ResponseByDate>>> getGamePosts(
+            @RequestParam LocalDate date,
+            @RequestParam String stadium,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursor) {
+
+        List<MateDTO.ResponseByDate> matePostList = mateService.getGamePosts(date, stadium, cursor);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, matePostList);
+    }
+
+    @GetMapping(value = "/facets")
+    public ResponseEntity<ApiResponse<MateDTO.FacetResponse>> getMateFacets() {
+
+        MateDTO.FacetResponse facets = mateService.getMateFacets();
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, facets);
+    }
+
+    @GetMapping(value = "/{mateId}")
+    public ResponseEntity<ApiResponse<MateDTO.ResponseDetail>> getMatePostDetail(HttpServletRequest request,
+                                                                           @PathVariable UUID mateId) {
+
+        MateDTO.ResponseDetail matePost = mateService.getMatePostDetail(request, mateId);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, matePost);
+    }
+
     @PostMapping(value = "/{mateId}/apply")
     public ResponseEntity<ApiResponse<MateRequest>> applyToMatePost(HttpServletRequest request, HttpServletResponse response,
                                                                     @Valid @PathVariable UUID mateId) {
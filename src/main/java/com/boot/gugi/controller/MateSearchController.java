@@ -0,0 +1,55 @@
+package com.boot.gugi.controller;
+
+import com.boot.gugi.base.ApiResponse;
+import com.boot.gugi.base.dto.MateDTO;
+import com.boot.gugi.base.status.SuccessStatus;
+import com.boot.gugi.service.MateSearchService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/mate/searches")
+@RequiredArgsConstructor
+public class MateSearchController {
+
+    private final MateSearchService mateSearchService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<MateDTO.SearchResponse>> saveSearch(HttpServletRequest request, HttpServletResponse response,
+                                                                          @RequestBody MateDTO.RequestOption options) {
+
+        MateDTO.SearchResponse savedSearch = mateSearchService.saveSearch(request, response, options);
+
+        return ApiResponse.onSuccess(SuccessStatus._CREATED, savedSearch);
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<MateDTO.SearchResponse>>> getSearches(HttpServletRequest request, HttpServletResponse response) {
+
+        List<MateDTO.SearchResponse> searches = mateSearchService.getSearches(request, response);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, searches);
+    }
+
+    @DeleteMapping(value = "/{searchId}")
+    public ResponseEntity<ApiResponse<Void>> deleteSearch(HttpServletRequest request, HttpServletResponse response,
+                                                          @PathVariable UUID searchId) {
+
+        mateSearchService.deleteSearch(request, response, searchId);
+
+        return ApiResponse.onSuccess(SuccessStatus._DELETED);
+    }
+
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(HttpServletRequest request, HttpServletResponse response) {
+        return mateSearchService.subscribe(request, response);
+    }
+}
@@ -0,0 +1,44 @@
+package com.boot.gugi.controller;
+
+import com.boot.gugi.base.ApiResponse;
+import com.boot.gugi.base.dto.MateDTO;
+import com.boot.gugi.base.status.SuccessStatus;
+import com.boot.gugi.service.QuickMatchService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/mate/quick")
+@RequiredArgsConstructor
+public class QuickMatchController {
+
+    private final QuickMatchService quickMatchService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<MateDTO.QuickMatchResponse>> enqueue(HttpServletRequest request, HttpServletResponse response,
+                                                                           @RequestBody MateDTO.QuickMatchRequest matchRequest) {
+
+        MateDTO.QuickMatchResponse matchResponse = quickMatchService.enqueue(request, response, matchRequest);
+
+        return ApiResponse.onSuccess(SuccessStatus._APPLY, matchResponse);
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<MateDTO.QuickMatchResponse>> getStatus(HttpServletRequest request, HttpServletResponse response) {
+
+        MateDTO.QuickMatchResponse matchResponse = quickMatchService.getStatus(request, response);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, matchResponse);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Void>> cancel(HttpServletRequest request, HttpServletResponse response) {
+
+        quickMatchService.cancel(request, response);
+
+        return ApiResponse.onSuccess(SuccessStatus._DELETED);
+    }
+}
@@ -6,6 +6,7 @@ import com.boot.gugi.base.dto.UserDTO;
 import com.boot.gugi.base.status.SuccessStatus;
 import com.boot.gugi.base.status.UserSuccessStatus;
 import com.boot.gugi.model.MateRequest;
+import com.boot.gugi.service.MateInboxService;
 import com.boot.gugi.service.MyPageService;
 import com.boot.gugi.base.ApiResponse;
 import com.boot.gugi.service.UserService;
@@ -18,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -27,6 +29,7 @@ public class UserController {
 
     private final UserService userService;
     private final MyPageService myPageService;
+    private final MateInboxService mateInboxService;
 
     @PostMapping(value = "/onboarding", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<OnboardingInfoDTO.DefineUserResponse>> createUser(
@@ -67,13 +70,56 @@ public class UserController {
     }
 
     @GetMapping(value = "/notifications/all")
-    public ResponseEntity<ApiResponse<MatePostStatusDTO.MateRequestSummaryDTO>> getMatePostStatus(HttpServletRequest request, HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<MatePostStatusDTO.MateRequestSummaryDTO>> getMatePostStatus(
+            HttpServletRequest request, HttpServletResponse response,
+            @RequestParam(required = false) String notificationCursor,
+            @RequestParam(required = false) String pendingCursor,
+            @RequestParam(required = false) String acceptedCursor,
+            @RequestParam(required = false) String rejectedCursor) {
 
-        MatePostStatusDTO.MateRequestSummaryDTO  mateRequestStatusList = myPageService.getMateRequestSummary(request, response);
+        MatePostStatusDTO.MateRequestSummaryDTO  mateRequestStatusList = myPageService.getMateRequestSummary(request, response,
+                notificationCursor, pendingCursor, acceptedCursor, rejectedCursor);
 
         return ApiResponse.onSuccess(SuccessStatus._GET, mateRequestStatusList);
     }
 
+    @GetMapping(value = "/inbox")
+    public ResponseEntity<ApiResponse<List<MatePostStatusDTO.InboxItemDTO>>> getInbox(
+            HttpServletRequest request, HttpServletResponse response,
+            @RequestParam(required = false) String cursor) {
+
+        List<MatePostStatusDTO.InboxItemDTO> inbox = mateInboxService.getInbox(request, response, cursor);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, inbox);
+    }
+
+    @GetMapping(value = "/inbox/unread")
+    public ResponseEntity<ApiResponse<Long>> getUnreadCount(HttpServletRequest request, HttpServletResponse response) {
+
+        long unreadCount = mateInboxService.getUnreadCount(request, response);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, unreadCount);
+    }
+
+    @PostMapping(value = "/inbox/read")
+    public ResponseEntity<ApiResponse<Object>> markInboxRead(HttpServletRequest request, HttpServletResponse response) {
+
+        mateInboxService.markRead(request, response);
+
+        return ApiResponse.onSuccess(SuccessStatus._OK);
+    }
+
+    @GetMapping(value = "/mate-posts/{mateId}/applicants")
+    public ResponseEntity<ApiResponse<List<MatePostStatusDTO.RankedApplicantDTO>>> getRankedApplicants(
+            HttpServletRequest request, HttpServletResponse response,
+            @PathVariable UUID mateId,
+            @RequestParam(required = false) String cursor) {
+
+        List<MatePostStatusDTO.RankedApplicantDTO> applicants = myPageService.getRankedApplicants(request, response, mateId, cursor);
+
+        return ApiResponse.onSuccess(SuccessStatus._GET, applicants);
+    }
+
     @PostMapping("/withdraw")
     public ResponseEntity<ApiResponse<Object>> withdraw(HttpServletRequest request, HttpServletResponse response) {
 
@@ -17,7 +17,14 @@ public enum PostErrorResult implements BaseErrorCode {
     NOT_FOUND_REQUEST(HttpStatus.NOT_FOUND, "404", "해당 신청 기록이 존재하지 않습니다."),
     ALREADY_RESPONDED(HttpStatus.CONFLICT,"409", "이미 처리된 신청입니다."),
     MAX_MEMBERS_REACHED(HttpStatus.CONFLICT,"409","더 이상 요청을 수락할 수 없습니다. 최대 멤버 수에 도달했습니다."),
-    RECRUITMENT_COMPLETED(HttpStatus.CONFLICT, "409", "이미 모집이 완료된 포스트입니다.");
+    RECRUITMENT_COMPLETED(HttpStatus.CONFLICT, "409", "이미 모집이 완료된 포스트입니다."),
+    NOT_FOUND_MATE_SEARCH(HttpStatus.NOT_FOUND, "404", "해당 저장된 검색 조건이 존재하지 않습니다."),
+    EMPTY_MATE_SEARCH(HttpStatus.BAD_REQUEST, "400", "검색 조건을 하나 이상 지정해야 합니다."),
+    INVALID_PARTY_SIZE(HttpStatus.BAD_REQUEST, "400", "빠른 매칭 인원은 2명 이상 6명 이하여야 합니다."),
+    PAST_GAME_DATE(HttpStatus.BAD_REQUEST, "400", "이미 지난 경기에는 빠른 매칭을 신청할 수 없습니다."),
+    DUPLICATE_MATE_POST(HttpStatus.CONFLICT, "409", "같은 경기에 비슷한 내용의 글이 이미 등록되어 있습니다."),
+    GAME_ALREADY_STARTED(HttpStatus.CONFLICT, "409", "이미 시작된 경기의 글은 수정할 수 없습니다."),
+    QUICK_MATCH_BUSY(HttpStatus.CONFLICT, "409", "빠른 매칭 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
 
 
     private final HttpStatus httpStatus;
@@ -18,7 +18,9 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "diary_posts")
+@Table(name = "diary_posts", indexes = {
+        @Index(name = "idx_diary_posts_user_timeline", columnList = "user_id, game_date, created_at, diary_id")
+})
 public class Diary {
 
     @Id
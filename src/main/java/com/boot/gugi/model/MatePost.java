@@ -23,7 +23,9 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "mate_posts")
+@Table(name = "mate_posts", indexes = {
+        @Index(name = "idx_mate_posts_game", columnList = "game_date, game_stadium, home_team, updated_at")
+})
 public class MatePost {
 
     @Id
@@ -32,7 +34,9 @@ public class MatePost {
     @Column(columnDefinition = "BINARY(16)", unique = true, nullable = false)
     private UUID mateId;
 
-    @ManyToOne
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -66,6 +70,10 @@ public class MatePost {
     @Builder.Default
     private Integer confirmedMembers = 1;
 
+    @Builder.Default
+    @Column(name = "view_count")
+    private Long viewCount = 0L;
+
     @Column(nullable=false)
     private StadiumEnum gameStadium;
 
@@ -77,6 +85,8 @@ public class MatePost {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "matePost", cascade = CascadeType.ALL)
     private List<MateRequest> mateRequestList;
 
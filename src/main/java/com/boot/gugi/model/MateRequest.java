@@ -15,7 +15,9 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "mate_request")
+@Table(name = "mate_request", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_mate_request_applicant", columnNames = {"mate_id", "applicant_id"})
+})
 public class MateRequest {
 
     @Id
@@ -0,0 +1,57 @@
+package com.boot.gugi.model;
+
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.springframework.data.annotation.CreatedDate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "mate_searches", indexes = {
+        @Index(name = "idx_mate_searches_user", columnList = "user_id")
+})
+public class MateSearch {
+
+    @Id
+    @GeneratedValue(generator = "search_uuid")
+    @GenericGenerator(name="search_uuid", strategy = "uuid2")
+    @Column(columnDefinition = "BINARY(16)", unique = true, nullable = false)
+    private UUID searchId;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    private GenderEnum gender;
+
+    @Enumerated(EnumType.STRING)
+    private AgeRangeEnum age;
+
+    private LocalDate gameDate;
+
+    @Enumerated(EnumType.STRING)
+    private TeamEnum homeTeam;
+
+    private Integer member;
+
+    @Enumerated(EnumType.STRING)
+    private StadiumEnum gameStadium;
+
+    @CreatedDate
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
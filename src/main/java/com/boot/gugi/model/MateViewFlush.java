@@ -0,0 +1,25 @@
+package com.boot.gugi.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "mate_view_flushes", indexes = {
+        @Index(name = "idx_mate_view_flushes_applied_at", columnList = "applied_at")
+})
+public class MateViewFlush {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)", unique = true, nullable = false)
+    private UUID flushId;
+
+    @Column(name = "applied_at")
+    private LocalDateTime appliedAt;
+}
@@ -1,18 +1,53 @@
 package com.boot.gugi.repository;
 
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
 import com.boot.gugi.model.Diary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface DiaryRepository extends JpaRepository<Diary, UUID> {
+
+    interface GameCountView {
+        UUID getUserId();
+        StadiumEnum getGameStadium();
+        TeamEnum getHomeTeam();
+        TeamEnum getAwayTeam();
+        Long getGames();
+    }
+
     Optional<Diary> findByDiaryId(UUID diaryId);
 
     List<Diary> findByUserId(UUID userId);
 
+    @Query("SELECT d FROM Diary d WHERE d.userId = :userId " +
+            "ORDER BY d.gameDate DESC, d.createdAt DESC, d.diaryId DESC")
+    List<Diary> findTimelineByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT d FROM Diary d WHERE d.userId = :userId AND (d.gameDate < :gameDate " +
+            "OR (d.gameDate = :gameDate AND (d.createdAt < :createdAt " +
+            "OR (d.createdAt = :createdAt AND d.diaryId < :diaryId)))) " +
+            "ORDER BY d.gameDate DESC, d.createdAt DESC, d.diaryId DESC")
+    List<Diary> findTimelineByUserIdAfter(@Param("userId") UUID userId,
+                                          @Param("gameDate") LocalDate gameDate,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("diaryId") UUID diaryId,
+                                          Pageable pageable);
+
+    @Query("SELECT d.userId AS userId, d.gameStadium AS gameStadium, d.homeTeam AS homeTeam, d.awayTeam AS awayTeam, COUNT(d) AS games " +
+            "FROM Diary d WHERE d.userId IN :userIds GROUP BY d.userId, d.gameStadium, d.homeTeam, d.awayTeam")
+    List<GameCountView> countGamesByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
     @Transactional
     void deleteAllByUserId(UUID userId);
 }
\ No newline at end of file
@@ -1,20 +1,62 @@
 package com.boot.gugi.repository;
 
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
 import com.boot.gugi.model.MatePost;
 import com.boot.gugi.model.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface MatePostRepository extends JpaRepository<MatePost, UUID>, QuerydslPredicateExecutor<MatePost> {
 
-    List<MatePost> findFirst5ByOrderByUpdatedAtDesc(Pageable pageable);
-    List<MatePost> findByUpdatedAtLessThan(LocalDateTime cursor, Pageable pageable);
+    interface MateCardView {
+        UUID getMateId();
+        String getTitle();
+        String getContent();
+        LocalDate getGameDate();
+        Integer getConfirmedMembers();
+        LocalDateTime getUpdatedAt();
+        GenderEnum getGender();
+        AgeRangeEnum getAge();
+        TeamEnum getHomeTeam();
+        Integer getMember();
+        StadiumEnum getGameStadium();
+    }
+
+    List<MateCardView> findCardsBy(Pageable pageable);
+    List<MateCardView> findCardsByUpdatedAtLessThan(LocalDateTime cursor, Pageable pageable);
+    List<MateCardView> findCardsByMateIdIn(Collection<UUID> mateIds);
     List<MatePost> findAllByUser(User user);
-    List<MatePost> findByGameDateBefore(LocalDate date);
+
+    @Query("SELECT m.mateId FROM MatePost m WHERE m.gameDate < :date AND m.mateId > :mateId ORDER BY m.mateId ASC")
+    List<UUID> findExpiredMateIds(@Param("date") LocalDate date, @Param("mateId") UUID mateId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE MatePost m SET m.confirmedMembers = m.confirmedMembers + 1 WHERE m.mateId = :mateId AND m.confirmedMembers < m.member")
+    int increaseConfirmedMembers(@Param("mateId") UUID mateId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE MatePost m SET m.viewCount = COALESCE(m.viewCount, 0) + :delta WHERE m.mateId IN :mateIds")
+    int increaseViewCounts(@Param("mateIds") Collection<UUID> mateIds, @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MatePost m WHERE m.mateId IN :mateIds")
+    int deleteAllByMateIds(@Param("mateIds") Collection<UUID> mateIds);
+    List<MatePost> findByGameDateGreaterThanEqual(LocalDate date);
 }
\ No newline at end of file
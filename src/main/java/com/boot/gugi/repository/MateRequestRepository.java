@@ -1,21 +1,57 @@
 package com.boot.gugi.repository;
 
+import com.boot.gugi.base.Enum.ApplicationStatusEnum;
 import com.boot.gugi.model.MatePost;
 import com.boot.gugi.model.MateRequest;
 import com.boot.gugi.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface MateRequestRepository extends JpaRepository<MateRequest, UUID> {
 
-    boolean existsByApplicantAndMatePost(User applicant, MatePost matePost);
+    interface ApplicantView {
+        UUID getRequestId();
+        LocalDateTime getAppliedAt();
+        Integer getAge();
+        Integer getGender();
+        String getNickName();
+        String getTeam();
+        String getIntroduction();
+        String getProfileImg();
+    }
+
     List<MateRequest> findAllByApplicant(User applicant);
     @Transactional
     void deleteAllByApplicant(User applicant);
     @Transactional
     void deleteAllByMatePost(MatePost matePost);
     List<MateRequest> findByMatePost(MatePost matePost);
+    long countByMatePostAndStatusIn(MatePost matePost, Collection<ApplicationStatusEnum> statuses);
+
+    @Query("SELECT r.requestId AS requestId, r.appliedAt AS appliedAt, a.age AS age, a.gender AS gender, " +
+            "i.nickName AS nickName, i.team AS team, i.introduction AS introduction, i.profileImg AS profileImg " +
+            "FROM MateRequest r JOIN r.applicant a LEFT JOIN UserOnboardingInfo i ON i.user = a " +
+            "WHERE r.matePost = :matePost AND r.status = :status")
+    List<ApplicantView> findApplicantsByMatePostAndStatus(@Param("matePost") MatePost matePost,
+                                                          @Param("status") ApplicationStatusEnum status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE MateRequest r SET r.status = :newStatus WHERE r.requestId = :requestId AND r.status = :currentStatus")
+    int updateStatus(@Param("requestId") UUID requestId,
+                     @Param("currentStatus") ApplicationStatusEnum currentStatus,
+                     @Param("newStatus") ApplicationStatusEnum newStatus);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MateRequest r WHERE r.matePost.mateId IN :mateIds")
+    int deleteAllByMatePostIds(@Param("mateIds") Collection<UUID> mateIds);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.boot.gugi.repository;
+
+import com.boot.gugi.model.MateSearch;
+import com.boot.gugi.model.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface MateSearchRepository extends JpaRepository<MateSearch, UUID> {
+
+    List<MateSearch> findAllByUser(User user);
+    @Transactional
+    void deleteAllByUser(User user);
+}
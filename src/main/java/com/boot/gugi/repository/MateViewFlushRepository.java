@@ -0,0 +1,19 @@
+package com.boot.gugi.repository;
+
+import com.boot.gugi.model.MateViewFlush;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface MateViewFlushRepository extends JpaRepository<MateViewFlush, UUID> {
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MateViewFlush f WHERE f.appliedAt < :before")
+    int deleteAllAppliedBefore(@Param("before") LocalDateTime before);
+}
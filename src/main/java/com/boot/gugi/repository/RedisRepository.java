@@ -1,20 +1,46 @@
 package com.boot.gugi.repository;
 
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.dto.MateDTO;
 import com.boot.gugi.base.dto.StadiumDTO;
 import com.boot.gugi.base.dto.TeamDTO;
 import com.boot.gugi.model.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
@@ -33,10 +59,94 @@ public class RedisRepository {
     private static final String STADIUM_CODE_PREFIX = "stadium-code:";
     private static final String FOOD_CODE_PREFIX = "food-code:";
     private static final String SCHEDULE_PREFIX = "schedule:";
+    private static final String MATE_TIMELINE_KEY = "mate-timeline";
+    private static final String MATE_SEEDED_PREFIX = "mate-seeded:";
+    private static final String MATE_CARD_PREFIX = "mate-card:";
+    private static final String MATE_DETAIL_PREFIX = "mate-detail:";
+    private static final long MATE_DETAIL_EXPIRATION_TIME = 60 * 60 * 1000L;
+    private static final String MATE_VERSION_PREFIX = "mate-version:";
+    private static final String MATE_VERSION_SCRIPT =
+            "for i, key in ipairs(KEYS) do " +
+            "  redis.call('INCR', key) " +
+            "  if redis.call('PTTL', key) < tonumber(ARGV[1]) then redis.call('PEXPIRE', key, ARGV[1]) end " +
+            "end " +
+            "return #KEYS";
+    private static final long MATE_VERSION_MIN_EXPIRATION_TIME = 24 * 60 * 60 * 1000L;
+    private static final String MATE_RELEVANCE_PREFIX = "mate-relevance:";
+    private static final String MATE_FACET_PREFIX = "mate-facet:";
+    private static final String MATE_EXPIRY_KEY = "mate-expiry";
+    private static final String MATE_EXPIRY_CLAIM_SCRIPT =
+            "local claimed = {} " +
+            "for i, mateId in ipairs(ARGV) do " +
+            "  if redis.call('ZREM', KEYS[1], mateId) == 1 then claimed[#claimed + 1] = mateId end " +
+            "end " +
+            "return claimed";
+    private static final String MATE_DUE_EXPIRY_CLAIM_SCRIPT =
+            "local dueIds = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "if #dueIds > 0 then redis.call('ZREM', KEYS[1], unpack(dueIds)) end " +
+            "return dueIds";
+    private static final String MATE_VIEW_COUNT_KEY = "mate-view-count";
+    private static final String MATE_VIEW_DELTA_KEY = "mate-view-delta";
+    private static final String MATE_VIEW_FLUSHING_KEY = "mate-view-delta:flushing";
+    private static final String MATE_VIEW_FLUSH_PREFIX = "mate-view-delta:";
+    private static final String MATE_VIEW_CLAIM_SCRIPT =
+            "if redis.call('TYPE', KEYS[2]).ok == 'hash' then " +
+            "  redis.call('RENAME', KEYS[2], ARGV[2] .. ARGV[1]) " +
+            "  redis.call('SET', KEYS[2], ARGV[1]) " +
+            "end " +
+            "local flushId = redis.call('GET', KEYS[2]) " +
+            "if flushId then return flushId end " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "redis.call('RENAME', KEYS[1], ARGV[2] .. ARGV[1]) " +
+            "redis.call('SET', KEYS[2], ARGV[1]) " +
+            "return ARGV[1]";
+    private static final String MATE_VIEWER_PREFIX = "mate-viewer:";
+    private static final String MATE_RECOMMEND_PREFIX = "mate-recommend:";
+    private static final long MATE_RECOMMEND_EXPIRATION_TIME = 2 * 24 * 60 * 60 * 1000L;
+    private static final String MATE_RECOMMEND_ADD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)) " +
+            "return 1";
+    private static final String QUICK_MATCH_PREFIX = "quick-match:";
+    private static final String MATE_BOARD_PREFIX = "mate-board:";
+    private static final String MATE_BOARD_GAMES_PREFIX = "mate-board-games:";
+    private static final String QUICK_MATCH_USER_KEY = "quick-match-user";
+    private static final String QUICK_MATCH_RESULT_PREFIX = "quick-match-result:";
+    private static final String MATE_INBOX_PREFIX = "mate-inbox:";
+    private static final String MATE_INBOX_UNREAD_KEY = "mate-inbox-unread";
+    private static final String MATE_INBOX_EVENTS_KEY = "mate-inbox-events";
+    private static final long MATE_INBOX_SIZE = 100;
+    private static final long MATE_INBOX_EVENTS_SIZE = 10000;
+    private static final String DIARY_STATS_PREFIX = "diary-stats:";
+    private static final long DIARY_STATS_EXPIRATION_TIME = 7 * 24 * 60 * 60 * 1000L;
+    private static final String DIARY_STATS_SCRIPT =
+            "local built = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not built then return 0 end " +
+            "if tonumber(built) >= tonumber(ARGV[2]) then redis.call('DEL', KEYS[1]) return 0 end " +
+            "for i = 3, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "return 1";
+    private static final String MATE_INDEX_TOPIC = "mate-index";
+    private static final String MATE_TRENDING_KEY = "mate-trending";
+    private static final String MATE_TRENDING_EPOCH_KEY = "mate-trending-epoch";
+    private static final String MATE_TRENDING_SCRIPT =
+            "local current = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not current and ARGV[4] == '0' then return 0 end " +
+            "redis.call('SET', KEYS[2], ARGV[6], 'NX') " +
+            "local epoch = tonumber(redis.call('GET', KEYS[2])) " +
+            "local score = tonumber(ARGV[2]) + (tonumber(ARGV[3]) - epoch) / tonumber(ARGV[5]) " +
+            "if current then " +
+            "  current = tonumber(current) " +
+            "  local high = math.max(current, score) " +
+            "  score = high + math.log(1 + math.exp(math.min(current, score) - high)) " +
+            "end " +
+            "redis.call('ZADD', KEYS[1], score, ARGV[1]) " +
+            "return 1";
 
     private final TeamRankRepository teamRankRepository;
     private final TeamScheduleRepository teamScheduleRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final RedissonClient redissonClient;
     private final ObjectMapper objectMapper;
 
@@ -133,6 +243,27 @@ public class RedisRepository {
         }
     }
 
+    public boolean runExclusively(String lockName, long waitMillis, Runnable task) {
+        RLock lock = redissonClient.getLock(lockName);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(waitMillis, TimeUnit.MILLISECONDS);
+            if (!locked) {
+                return false;
+            }
+            task.run();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Thread was interrupted while trying to acquire lock {}.", lockName, e);
+            return false;
+        } finally {
+            if (locked) {
+                lock.unlock();
+            }
+        }
+    }
+
     private void updateSingleRank(TeamRank newData) {
 
         int rank = newData.getTeamRank();
@@ -298,4 +429,621 @@ public class RedisRepository {
 
         return specificSchedule;
     }
-}
\ No newline at end of file
+
+    public void saveMateCard(MateDTO.MateCard card) {
+        String cardKey = MATE_CARD_PREFIX + card.getMateId();
+        saveToStringRedis(cardKey, card, null);
+        stringRedisTemplate.opsForZSet().add(MATE_TIMELINE_KEY, card.getMateId().toString(), toTimelineScore(card.getUpdatedAt()));
+    }
+
+    public void deleteMateCards(Collection<UUID> mateIds) {
+        if (mateIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForZSet().remove(MATE_TIMELINE_KEY, mateIds.stream().map(UUID::toString).toArray());
+        stringRedisTemplate.delete(mateIds.stream().map(mateId -> MATE_CARD_PREFIX + mateId).toList());
+    }
+
+    public void saveMateDetail(MateDTO.MateDetail detail) {
+        saveToStringRedis(MATE_DETAIL_PREFIX + detail.getCard().getMateId(), detail, MATE_DETAIL_EXPIRATION_TIME);
+    }
+
+    public MateDTO.MateDetail findMateDetail(UUID mateId) {
+        String detailJson = stringRedisTemplate.opsForValue().get(MATE_DETAIL_PREFIX + mateId);
+        if (detailJson == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(detailJson, MateDTO.MateDetail.class);
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to convert JSON to MateDetail object. Error: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    public void deleteMateDetails(Collection<UUID> mateIds) {
+        if (mateIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.delete(mateIds.stream().map(mateId -> MATE_DETAIL_PREFIX + mateId).toList());
+    }
+
+    public boolean isMateCacheSeeded(String cache) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(MATE_SEEDED_PREFIX + cache));
+    }
+
+    public void markMateCacheSeeded(String cache) {
+        stringRedisTemplate.opsForValue().set(MATE_SEEDED_PREFIX + cache, LocalDateTime.now().toString());
+    }
+
+    public List<UUID> findMateTimeline(LocalDateTime cursor, int size) {
+        double maxScore = cursor == null ? Double.POSITIVE_INFINITY : toTimelineScore(cursor) - 1;
+        Set<String> mateIds = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScore(MATE_TIMELINE_KEY, Double.NEGATIVE_INFINITY, maxScore, 0, size);
+
+        if (mateIds == null) {
+            return Collections.emptyList();
+        }
+        return mateIds.stream().map(UUID::fromString).toList();
+    }
+
+    public Map<UUID, MateDTO.MateCard> findMateCards(List<UUID> mateIds) {
+        Map<UUID, MateDTO.MateCard> cards = new HashMap<>();
+        if (mateIds.isEmpty()) {
+            return cards;
+        }
+
+        List<String> cardJsons = stringRedisTemplate.opsForValue()
+                .multiGet(mateIds.stream().map(mateId -> MATE_CARD_PREFIX + mateId).toList());
+        if (cardJsons == null) {
+            return cards;
+        }
+
+        for (String cardJson : cardJsons) {
+            if (cardJson == null) continue;
+            try {
+                MateDTO.MateCard card = objectMapper.readValue(cardJson, MateDTO.MateCard.class);
+                cards.put(card.getMateId(), card);
+            } catch (JsonProcessingException e) {
+                logger.error("Failed to convert JSON to MateCard object. Error: {}", e.getMessage(), e);
+            }
+        }
+        return cards;
+    }
+
+    private <T> void saveToStringRedis(String key, T object, Long expirationTime) {
+        try {
+            String json = objectMapper.writeValueAsString(object);
+            if (expirationTime != null) {
+                stringRedisTemplate.opsForValue().set(key, json, expirationTime, TimeUnit.MILLISECONDS);
+            } else {
+                stringRedisTemplate.opsForValue().set(key, json);
+            }
+        } catch (JsonProcessingException e) {
+            logError(object.getClass().getSimpleName(), key, e);
+        }
+    }
+
+    private double toTimelineScore(LocalDateTime updatedAt) {
+        Instant instant = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    public List<String> findMateVersions(List<String> tokens) {
+        List<String> versions = stringRedisTemplate.opsForValue()
+                .multiGet(tokens.stream().map(token -> MATE_VERSION_PREFIX + token).toList());
+
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String version = versions != null ? versions.get(i) : null;
+            result.add(version != null ? version : "0");
+        }
+        return result;
+    }
+
+    public void increaseMateVersions(Collection<String> tokens, LocalDateTime expiresAt) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        long expirationTime = Math.max((long) toEpochMilli(expiresAt) - System.currentTimeMillis(), MATE_VERSION_MIN_EXPIRATION_TIME);
+        stringRedisTemplate.execute(new DefaultRedisScript<>(MATE_VERSION_SCRIPT, Long.class),
+                tokens.stream().map(token -> MATE_VERSION_PREFIX + token).toList(), String.valueOf(expirationTime));
+    }
+
+    public void saveRelevanceResult(String key, List<String> cursors, long expirationTime) {
+        saveToStringRedis(MATE_RELEVANCE_PREFIX + key, cursors, expirationTime);
+    }
+
+    public List<String> findRelevanceResult(String key) {
+        String cursorsJson = stringRedisTemplate.opsForValue().get(MATE_RELEVANCE_PREFIX + key);
+        if (cursorsJson == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(cursorsJson, new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to convert relevance result JSON. Key: {}, Error: {}", key, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    public void increaseMateFacets(Map<String, String> facetValues, long delta) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        facetValues.forEach((facet, value) -> hashOperations.increment(MATE_FACET_PREFIX + facet, value, delta));
+    }
+
+    public void deleteMateFacets(List<String> facets) {
+        stringRedisTemplate.delete(facets.stream().map(facet -> MATE_FACET_PREFIX + facet).toList());
+    }
+
+    public Map<String, Map<String, Long>> findMateFacets(List<String> facets) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        Map<String, Map<String, Long>> result = new HashMap<>();
+
+        for (String facet : facets) {
+            Map<String, Long> counts = new TreeMap<>();
+            hashOperations.entries(MATE_FACET_PREFIX + facet).forEach((value, count) -> {
+                long parsedCount = Long.parseLong(count);
+                if (parsedCount > 0) {
+                    counts.put(value, parsedCount);
+                }
+            });
+            result.put(facet, counts);
+        }
+        return result;
+    }
+
+    public void deleteEmptyMateFacets(List<String> facets) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+
+        for (String facet : facets) {
+            String facetKey = MATE_FACET_PREFIX + facet;
+            Object[] emptyValues = hashOperations.entries(facetKey).entrySet().stream()
+                    .filter(entry -> Long.parseLong(entry.getValue()) <= 0)
+                    .map(Map.Entry::getKey)
+                    .toArray();
+            if (emptyValues.length > 0) {
+                hashOperations.delete(facetKey, emptyValues);
+            }
+        }
+    }
+
+    public void saveMateExpiry(UUID mateId, LocalDateTime expiresAt) {
+        stringRedisTemplate.opsForZSet().add(MATE_EXPIRY_KEY, mateId.toString(), toEpochMilli(expiresAt));
+    }
+
+    public void deleteMateExpiries(Collection<UUID> mateIds) {
+        if (mateIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForZSet().remove(MATE_EXPIRY_KEY, mateIds.stream().map(UUID::toString).toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<UUID> claimMateExpiries(Collection<UUID> mateIds) {
+        if (mateIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> claimedIds = stringRedisTemplate.execute(new DefaultRedisScript<>(MATE_EXPIRY_CLAIM_SCRIPT, List.class),
+                List.of(MATE_EXPIRY_KEY), mateIds.stream().map(UUID::toString).toArray());
+        if (claimedIds == null) {
+            return Collections.emptyList();
+        }
+        return claimedIds.stream().map(UUID::fromString).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<UUID> claimDueMateExpiries(LocalDateTime now, int size) {
+        List<String> dueIds = stringRedisTemplate.execute(new DefaultRedisScript<>(MATE_DUE_EXPIRY_CLAIM_SCRIPT, List.class),
+                List.of(MATE_EXPIRY_KEY), String.valueOf((long) toEpochMilli(now)), String.valueOf(size));
+        if (dueIds == null) {
+            return Collections.emptyList();
+        }
+        return dueIds.stream().map(UUID::fromString).toList();
+    }
+
+    private double toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public void increaseMateViews(Map<UUID, Long> views, Map<UUID, Set<String>> viewers) {
+        if (views.isEmpty() && viewers.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            views.forEach((mateId, count) -> {
+                stringConnection.hIncrBy(MATE_VIEW_COUNT_KEY, mateId.toString(), count);
+                stringConnection.hIncrBy(MATE_VIEW_DELTA_KEY, mateId.toString(), count);
+            });
+            viewers.forEach((mateId, viewerKeys) ->
+                    stringConnection.pfAdd(MATE_VIEWER_PREFIX + mateId, viewerKeys.toArray(new String[0])));
+            return null;
+        });
+    }
+
+    public void seedMateViewCount(UUID mateId, long viewCount) {
+        stringRedisTemplate.opsForHash().putIfAbsent(MATE_VIEW_COUNT_KEY, mateId.toString(), String.valueOf(viewCount));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<UUID, MateDTO.ViewCount> findMateViewCounts(List<UUID> mateIds) {
+        Map<UUID, MateDTO.ViewCount> viewCounts = new HashMap<>();
+        if (mateIds.isEmpty()) {
+            return viewCounts;
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hMGet(MATE_VIEW_COUNT_KEY, mateIds.stream().map(UUID::toString).toArray(String[]::new));
+            mateIds.forEach(mateId -> stringConnection.pfCount(MATE_VIEWER_PREFIX + mateId));
+            return null;
+        });
+
+        List<String> counts = (List<String>) results.get(0);
+        for (int i = 0; i < mateIds.size(); i++) {
+            String count = counts != null ? counts.get(i) : null;
+            Long uniqueViewers = (Long) results.get(i + 1);
+            viewCounts.put(mateIds.get(i), new MateDTO.ViewCount(
+                    count != null ? Long.parseLong(count) : 0L,
+                    uniqueViewers != null ? uniqueViewers : 0L));
+        }
+        return viewCounts;
+    }
+
+    public UUID claimMateViewFlush() {
+        String flushId = stringRedisTemplate.execute(new DefaultRedisScript<>(MATE_VIEW_CLAIM_SCRIPT, String.class),
+                List.of(MATE_VIEW_DELTA_KEY, MATE_VIEW_FLUSHING_KEY), UUID.randomUUID().toString(), MATE_VIEW_FLUSH_PREFIX);
+        return flushId != null ? UUID.fromString(flushId) : null;
+    }
+
+    public Map<UUID, Long> findMateViewFlush(UUID flushId) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        Map<UUID, Long> deltas = new HashMap<>();
+        hashOperations.entries(MATE_VIEW_FLUSH_PREFIX + flushId)
+                .forEach((mateId, delta) -> deltas.put(UUID.fromString(mateId), Long.parseLong(delta)));
+        return deltas;
+    }
+
+    public void completeMateViewFlush(UUID flushId) {
+        stringRedisTemplate.delete(List.of(MATE_VIEW_FLUSH_PREFIX + flushId, MATE_VIEW_FLUSHING_KEY));
+    }
+
+    public void deleteMateViews(Collection<UUID> mateIds) {
+        if (mateIds.isEmpty()) {
+            return;
+        }
+        Object[] fields = mateIds.stream().map(UUID::toString).toArray();
+        stringRedisTemplate.opsForHash().delete(MATE_VIEW_COUNT_KEY, fields);
+        stringRedisTemplate.opsForHash().delete(MATE_VIEW_DELTA_KEY, fields);
+        stringRedisTemplate.delete(mateIds.stream().map(mateId -> MATE_VIEWER_PREFIX + mateId).toList());
+    }
+
+    public void saveMateRecommendations(UUID userId, Map<UUID, Double> scores) {
+        String key = MATE_RECOMMEND_PREFIX + userId;
+        if (scores.isEmpty()) {
+            stringRedisTemplate.delete(key);
+            return;
+        }
+
+        String stagingKey = key + ":staging";
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.del(stagingKey);
+            scores.forEach((mateId, score) -> stringConnection.zAdd(stagingKey, score, mateId.toString()));
+            stringConnection.rename(stagingKey, key);
+            stringConnection.pExpire(key, MATE_RECOMMEND_EXPIRATION_TIME);
+            return null;
+        });
+    }
+
+    public void updateMateRecommendations(UUID mateId, Map<UUID, Double> scoresByUser, Collection<UUID> removedUsers, int limit) {
+        if (scoresByUser.isEmpty() && removedUsers.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            scoresByUser.forEach((userId, score) -> stringConnection.eval(MATE_RECOMMEND_ADD_SCRIPT, ReturnType.INTEGER, 1,
+                    MATE_RECOMMEND_PREFIX + userId, String.valueOf(score), mateId.toString(), String.valueOf(limit)));
+            removedUsers.forEach(userId -> stringConnection.zRem(MATE_RECOMMEND_PREFIX + userId, mateId.toString()));
+            return null;
+        });
+    }
+
+    public List<UUID> findMateRecommendations(UUID userId, long offset, int size) {
+        Set<String> mateIds = stringRedisTemplate.opsForZSet()
+                .reverseRange(MATE_RECOMMEND_PREFIX + userId, offset, offset + size - 1);
+        if (mateIds == null) {
+            return Collections.emptyList();
+        }
+        return mateIds.stream().map(UUID::fromString).toList();
+    }
+
+    public void deleteMateRecommendations(UUID userId) {
+        stringRedisTemplate.delete(MATE_RECOMMEND_PREFIX + userId);
+    }
+
+    public void appendMateInbox(UUID userId, Map<String, String> fields) {
+        Map<String, String> event = new HashMap<>(fields);
+        event.put("userId", userId.toString());
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.xAdd(StreamRecords.string(fields).withStreamKey(MATE_INBOX_PREFIX + userId),
+                    RedisStreamCommands.XAddOptions.maxlen(MATE_INBOX_SIZE).approximateTrimming(true));
+            stringConnection.hIncrBy(MATE_INBOX_UNREAD_KEY, userId.toString(), 1);
+            stringConnection.xAdd(StreamRecords.string(event).withStreamKey(MATE_INBOX_EVENTS_KEY),
+                    RedisStreamCommands.XAddOptions.maxlen(MATE_INBOX_EVENTS_SIZE).approximateTrimming(true));
+            return null;
+        });
+    }
+
+    public List<MapRecord<String, Object, Object>> findMateInbox(UUID userId, String cursor, int size) {
+        Range<String> range = cursor != null
+                ? Range.leftUnbounded(Range.Bound.exclusive(cursor))
+                : Range.unbounded();
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .reverseRange(MATE_INBOX_PREFIX + userId, range, Limit.limit().count(size));
+        return records != null ? records : Collections.emptyList();
+    }
+
+    public long findMateInboxUnread(UUID userId) {
+        Object unread = stringRedisTemplate.opsForHash().get(MATE_INBOX_UNREAD_KEY, userId.toString());
+        return unread != null ? Long.parseLong(unread.toString()) : 0L;
+    }
+
+    public void clearMateInboxUnread(UUID userId) {
+        stringRedisTemplate.opsForHash().delete(MATE_INBOX_UNREAD_KEY, userId.toString());
+    }
+
+    public void deleteMateInbox(UUID userId) {
+        stringRedisTemplate.delete(MATE_INBOX_PREFIX + userId);
+        clearMateInboxUnread(userId);
+    }
+
+    public void createMateInboxGroup(String group) {
+        try {
+            stringRedisTemplate.opsForStream().createGroup(MATE_INBOX_EVENTS_KEY, ReadOffset.latest(), group);
+        } catch (Exception e) {
+            logger.info("Mate inbox group {} already exists: {}", group, e.getMessage());
+        }
+    }
+
+    public void deleteMateInboxGroup(String group) {
+        stringRedisTemplate.opsForStream().destroyGroup(MATE_INBOX_EVENTS_KEY, group);
+    }
+
+    public List<String> deleteIdleMateInboxGroups(String prefix, String keepGroup, long idleMillis) {
+        List<String> deleted = new ArrayList<>();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(MATE_INBOX_EVENTS_KEY))) {
+            return deleted;
+        }
+
+        for (StreamInfo.XInfoGroup group : stringRedisTemplate.opsForStream().groups(MATE_INBOX_EVENTS_KEY)) {
+            String groupName = group.groupName();
+            if (!groupName.startsWith(prefix) || groupName.equals(keepGroup)) continue;
+
+            StreamInfo.XInfoConsumers consumers = stringRedisTemplate.opsForStream().consumers(MATE_INBOX_EVENTS_KEY, groupName);
+            boolean idle = consumers.isEmpty()
+                    || consumers.stream().allMatch(consumer -> consumer.idleTimeMs() >= idleMillis);
+            if (idle) {
+                stringRedisTemplate.opsForStream().destroyGroup(MATE_INBOX_EVENTS_KEY, groupName);
+                deleted.add(groupName);
+            }
+        }
+        return deleted;
+    }
+
+    public List<MapRecord<String, Object, Object>> readMateInboxEvents(String group, String consumer, int size) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                Consumer.from(group, consumer),
+                StreamReadOptions.empty().count(size),
+                StreamOffset.create(MATE_INBOX_EVENTS_KEY, ReadOffset.lastConsumed()));
+        return records != null ? records : Collections.emptyList();
+    }
+
+    public void acknowledgeMateInboxEvents(String group, List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForStream().acknowledge(MATE_INBOX_EVENTS_KEY, group, recordIds.toArray(new RecordId[0]));
+    }
+
+    public Map<String, Long> findDiaryStats(UUID userId) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        Map<String, Long> cells = new HashMap<>();
+        hashOperations.entries(DIARY_STATS_PREFIX + userId)
+                .forEach((cell, count) -> cells.put(cell, Long.parseLong(count)));
+        return cells;
+    }
+
+    public void saveDiaryStats(UUID userId, Map<String, Long> cells) {
+        String key = DIARY_STATS_PREFIX + userId;
+        String stagingKey = key + ":staging";
+        Map<String, String> values = new HashMap<>();
+        cells.forEach((cell, count) -> values.put(cell, String.valueOf(count)));
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.del(stagingKey);
+            stringConnection.hMSet(stagingKey, values);
+            stringConnection.rename(stagingKey, key);
+            stringConnection.pExpire(key, DIARY_STATS_EXPIRATION_TIME);
+            return null;
+        });
+    }
+
+    public void increaseDiaryStats(UUID userId, String builtCell, long changedAt, Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(builtCell);
+        args.add(String.valueOf(changedAt));
+        deltas.forEach((cell, delta) -> {
+            args.add(cell);
+            args.add(String.valueOf(delta));
+        });
+        stringRedisTemplate.execute(new DefaultRedisScript<>(DIARY_STATS_SCRIPT, Long.class),
+                List.of(DIARY_STATS_PREFIX + userId), args.toArray());
+    }
+
+    public void deleteDiaryStats(UUID userId) {
+        stringRedisTemplate.delete(DIARY_STATS_PREFIX + userId);
+    }
+
+    public void clearMateTrending() {
+        stringRedisTemplate.delete(MATE_TRENDING_KEY);
+    }
+
+    public void increaseMateTrending(Map<UUID, Double> logWeights, long atMillis, double decayMillis, boolean createIfAbsent) {
+        if (logWeights.isEmpty()) {
+            return;
+        }
+        String create = createIfAbsent ? "1" : "0";
+        String now = String.valueOf(System.currentTimeMillis());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            logWeights.forEach((mateId, logWeight) -> stringConnection.eval(MATE_TRENDING_SCRIPT, ReturnType.INTEGER, 2,
+                    MATE_TRENDING_KEY, MATE_TRENDING_EPOCH_KEY, mateId.toString(), String.valueOf(logWeight),
+                    String.valueOf(atMillis), create, String.valueOf(decayMillis), now));
+            return null;
+        });
+    }
+
+    public void publishMateIndexChange(String message) {
+        redissonClient.getTopic(MATE_INDEX_TOPIC, StringCodec.INSTANCE).publish(message);
+    }
+
+    public void addMateIndexListener(MessageListener<String> listener) {
+        redissonClient.getTopic(MATE_INDEX_TOPIC, StringCodec.INSTANCE).addListener(String.class, listener);
+    }
+
+    public List<UUID> findMateTrending(long offset, int size) {
+        Set<String> mateIds = stringRedisTemplate.opsForZSet().reverseRange(MATE_TRENDING_KEY, offset, offset + size - 1);
+        if (mateIds == null) {
+            return Collections.emptyList();
+        }
+        return mateIds.stream().map(UUID::fromString).toList();
+    }
+
+    public void deleteMateTrending(Collection<UUID> mateIds) {
+        if (mateIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForZSet().remove(MATE_TRENDING_KEY, mateIds.stream().map(UUID::toString).toArray());
+    }
+
+    public void saveQuickMatchTicket(String partitionKey, MateDTO.QuickMatchTicket ticket) {
+        try {
+            String ticketJson = objectMapper.writeValueAsString(ticket);
+            stringRedisTemplate.opsForHash().put(QUICK_MATCH_PREFIX + partitionKey, ticket.getUserId().toString(), ticketJson);
+            stringRedisTemplate.opsForHash().put(QUICK_MATCH_USER_KEY, ticket.getUserId().toString(), partitionKey);
+        } catch (JsonProcessingException e) {
+            logError(ticket.getClass().getSimpleName(), QUICK_MATCH_PREFIX + partitionKey, e);
+        }
+    }
+
+    public void deleteQuickMatchTickets(String partitionKey, Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Object[] fields = userIds.stream().map(UUID::toString).toArray();
+        stringRedisTemplate.opsForHash().delete(QUICK_MATCH_PREFIX + partitionKey, fields);
+        stringRedisTemplate.opsForHash().delete(QUICK_MATCH_USER_KEY, fields);
+    }
+
+    public Set<String> findQuickMatchPartitions() {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        return new HashSet<>(hashOperations.values(QUICK_MATCH_USER_KEY));
+    }
+
+    public String findQuickMatchPartition(UUID userId) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        return hashOperations.get(QUICK_MATCH_USER_KEY, userId.toString());
+    }
+
+    public List<MateDTO.QuickMatchTicket> findQuickMatchTickets(String partitionKey) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+
+        List<MateDTO.QuickMatchTicket> tickets = new ArrayList<>();
+        for (String ticketJson : hashOperations.values(QUICK_MATCH_PREFIX + partitionKey)) {
+            try {
+                tickets.add(objectMapper.readValue(ticketJson, MateDTO.QuickMatchTicket.class));
+            } catch (JsonProcessingException e) {
+                logger.error("Failed to convert JSON to QuickMatchTicket object. Error: {}", e.getMessage(), e);
+            }
+        }
+        return tickets;
+    }
+
+    public void saveQuickMatchResult(UUID userId, UUID mateId, long expirationTime) {
+        stringRedisTemplate.opsForValue().set(QUICK_MATCH_RESULT_PREFIX + userId, mateId.toString(), expirationTime, TimeUnit.MILLISECONDS);
+    }
+
+    public UUID findQuickMatchResult(UUID userId) {
+        String mateId = stringRedisTemplate.opsForValue().get(QUICK_MATCH_RESULT_PREFIX + userId);
+        return mateId != null ? UUID.fromString(mateId) : null;
+    }
+
+    private String getRedisKeyMateBoard(LocalDate gameDate, StadiumEnum stadium) {
+        return MATE_BOARD_PREFIX + gameDate + ":" + stadium.name();
+    }
+
+    public void addToMateBoard(LocalDate gameDate, StadiumEnum stadium, UUID mateId, LocalDateTime updatedAt) {
+        stringRedisTemplate.opsForZSet().add(getRedisKeyMateBoard(gameDate, stadium), mateId.toString(), toTimelineScore(updatedAt));
+    }
+
+    public void removeFromMateBoard(LocalDate gameDate, StadiumEnum stadium, Collection<UUID> mateIds) {
+        if (mateIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForZSet().remove(getRedisKeyMateBoard(gameDate, stadium), mateIds.stream().map(UUID::toString).toArray());
+    }
+
+    public Map<StadiumEnum, Long> countMateBoard(LocalDate gameDate, List<StadiumEnum> stadiums) {
+        Map<StadiumEnum, Long> counts = new EnumMap<>(StadiumEnum.class);
+        if (stadiums.isEmpty()) {
+            return counts;
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stadiums.forEach(stadium -> stringConnection.zCard(getRedisKeyMateBoard(gameDate, stadium)));
+            return null;
+        });
+        for (int i = 0; i < stadiums.size(); i++) {
+            Long count = (Long) results.get(i);
+            counts.put(stadiums.get(i), count != null ? count : 0L);
+        }
+        return counts;
+    }
+
+    public List<UUID> findMateBoard(LocalDate gameDate, StadiumEnum stadium, LocalDateTime cursor, int size) {
+        double maxScore = cursor == null ? Double.POSITIVE_INFINITY : toTimelineScore(cursor) - 1;
+        Set<String> mateIds = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScore(getRedisKeyMateBoard(gameDate, stadium), Double.NEGATIVE_INFINITY, maxScore, 0, size);
+
+        if (mateIds == null) {
+            return Collections.emptyList();
+        }
+        return mateIds.stream().map(UUID::fromString).toList();
+    }
+
+    public void saveMateBoardGames(LocalDate gameDate, List<MateDTO.GameBoardGame> games, long expirationTime) {
+        saveToStringRedis(MATE_BOARD_GAMES_PREFIX + gameDate, games, expirationTime);
+    }
+
+    public List<MateDTO.GameBoardGame> findMateBoardGames(LocalDate gameDate) {
+        String gamesJson = stringRedisTemplate.opsForValue().get(MATE_BOARD_GAMES_PREFIX + gameDate);
+        if (gamesJson == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(gamesJson, new TypeReference<List<MateDTO.GameBoardGame>>() {});
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to convert game board JSON. Date: {}, Error: {}", gameDate, e.getMessage(), e);
+            return null;
+        }
+    }
+}
@@ -17,6 +17,8 @@ public interface TeamScheduleRepository extends JpaRepository<TeamSchedule, Long
             String awayTeam
     );
 
+    List<TeamSchedule> findByDateAndSpecificDateStartingWith(String date, String specificDate);
+
     @Query("SELECT t FROM TeamSchedule t WHERE t.date = :date AND (t.homeTeam = :team OR t.awayTeam = :team)")
     List<TeamSchedule> findByDateAndTeam(@Param("date") String date, @Param("team") String team);
 }
@@ -6,9 +6,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserOnboardingInfoRepository extends JpaRepository<UserOnboardingInfo, Long> {
     UserOnboardingInfo findByUser(User user);
 
+    List<UserOnboardingInfo> findAllByUserIn(Collection<User> users);
+
     @Query("SELECT u.nickName FROM UserOnboardingInfo u WHERE u.user = :user")
     String findNickNameByUser(@Param("user") User user);
 
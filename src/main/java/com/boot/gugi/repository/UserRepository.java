@@ -2,7 +2,10 @@ package com.boot.gugi.repository;
 
 import com.boot.gugi.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -12,4 +15,17 @@ public interface UserRepository extends JpaRepository<User,UUID> {
     Optional<User> findByUserId(UUID userId);
 
     User findByProviderId(String providerId);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE User u SET " +
+            "u.winRate = CASE WHEN u.totalDiaryCount + :countDelta > 0 " +
+            "THEN CAST((u.totalWins + :winDelta) * 100.0 / (u.totalDiaryCount + :countDelta) AS BigDecimal) " +
+            "ELSE 0 END, " +
+            "u.totalDiaryCount = u.totalDiaryCount + :countDelta, " +
+            "u.totalWins = u.totalWins + :winDelta " +
+            "WHERE u.userId = :userId")
+    int increaseDiaryStatistics(@Param("userId") UUID userId,
+                                @Param("countDelta") int countDelta,
+                                @Param("winDelta") int winDelta);
 }
\ No newline at end of file
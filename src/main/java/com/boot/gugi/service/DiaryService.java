@@ -15,14 +15,15 @@ import com.boot.gugi.token.service.TokenServiceImpl;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -31,11 +32,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DiaryService {
 
+    private static final int DIARY_PAGE_SIZE = 20;
+
     private final S3Service s3Service;
     private final DiaryRepository diaryRepository;
     private final UserRepository userRepository;
     private final UserOnboardingInfoRepository userOnboardingInfoRepository;
     private final TokenServiceImpl tokenServiceImpl;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createDiaryPost(HttpServletRequest request, HttpServletResponse response, DiaryDTO.DiaryRequest postInfo, MultipartFile gameImg) {
@@ -44,9 +48,10 @@ public class DiaryService {
         String uploadedDiaryUrl = s3Service.uploadImg(gameImg, null);
         GameResultEnum gameResult = determineGameResult(postInfo.getHomeScore(), postInfo.getAwayScore());
 
-        updateUserStatistics(userId, gameResult, null, true);
         Diary savedDiary = createDiaryInfo(userId, postInfo, uploadedDiaryUrl, gameResult);
         diaryRepository.save(savedDiary);
+        eventPublisher.publishEvent(new DiaryDTO.DiaryChangedEvent(userId, null, DiaryStatsService.toDiaryGame(savedDiary), System.currentTimeMillis()));
+        updateUserStatistics(userId, gameResult, null, true);
     }
 
     @Transactional
@@ -63,9 +68,11 @@ public class DiaryService {
         String uploadedDiaryUrl = s3Service.uploadImg(gameImg, null);
         GameResultEnum gameResult = determineGameResult(postInfo.getHomeScore(), postInfo.getAwayScore());
 
-        updateUserStatistics(userId, gameResult, existingDiary.getGameResult(), false);
+        DiaryDTO.DiaryGame previousGame = DiaryStatsService.toDiaryGame(existingDiary);
         updateDiaryInfo(existingDiary, postInfo, uploadedDiaryUrl, gameResult);
         diaryRepository.save(existingDiary);
+        eventPublisher.publishEvent(new DiaryDTO.DiaryChangedEvent(userId, previousGame, DiaryStatsService.toDiaryGame(existingDiary), System.currentTimeMillis()));
+        updateUserStatistics(userId, gameResult, previousGame.getGameResult(), false);
     }
 
     public DiaryDTO.DiaryDetailDto getDiaryDetails(HttpServletRequest request, HttpServletResponse response, UUID diaryId){
@@ -80,13 +87,20 @@ public class DiaryService {
         return convertToDiaryDetailDto(existingDiary);
     }
 
-    public List<DiaryDTO.DiarySingleDto> getAllDiary(HttpServletRequest request, HttpServletResponse response){
+    public List<DiaryDTO.DiarySingleDto> getAllDiary(HttpServletRequest request, HttpServletResponse response, String cursor){
         UUID userId = tokenServiceImpl.getUserIdFromAccessToken(request, response);
-        List<Diary> diaries = diaryRepository.findByUserId(userId);
+        Pageable pageable = PageRequest.of(0, DIARY_PAGE_SIZE);
+
+        List<Diary> diaries;
+        if (cursor == null) {
+            diaries = diaryRepository.findTimelineByUserId(userId, pageable);
+        } else {
+            String[] parts = cursor.split("_");
+            diaries = diaryRepository.findTimelineByUserIdAfter(userId,
+                    LocalDate.parse(parts[0]), LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]), pageable);
+        }
 
         return diaries.stream()
-                .sorted(Comparator.comparing(Diary::getGameDate).reversed()
-                        .thenComparing(Comparator.comparing(Diary::getCreatedAt).reversed()))
                 .map(this::convertToDiarySingleDto)
                 .collect(Collectors.toList());
     }
@@ -112,45 +126,16 @@ public class DiaryService {
     }
 
     private void updateUserStatistics(UUID userId, GameResultEnum newGameResult, GameResultEnum oldGameResult, boolean isCreate) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new UserException(UserErrorResult.NOT_FOUND_USER));
-
-        if (isCreate) {
-            updateStatisticsForCreation(user, newGameResult);
-        } else {
-            updateStatisticsForUpdate(user, newGameResult, oldGameResult);
-        }
-
-        user.setWinRate(calculateWinningPercent(user.getTotalWins(), user.getTotalDiaryCount()));
-        userRepository.save(user);
-    }
-
-    private void updateStatisticsForCreation(User user, GameResultEnum newGameResult) {
-        user.setTotalDiaryCount(user.getTotalDiaryCount() + 1);
-        if (newGameResult == GameResultEnum.WIN) {
-            user.setTotalWins(user.getTotalWins() + 1);
-        }
-    }
-
-    private void updateStatisticsForUpdate(User user, GameResultEnum newGameResult, GameResultEnum oldGameResult) {
-        if (oldGameResult == GameResultEnum.WIN) {
-            if (newGameResult == GameResultEnum.LOSE || newGameResult == GameResultEnum.DRAW) {
-                user.setTotalWins(user.getTotalWins() - 1);
-            }
-        } else {
-            if (newGameResult == GameResultEnum.WIN) {
-                user.setTotalWins(user.getTotalWins() + 1);
-            }
+        int countDelta = isCreate ? 1 : 0;
+        int winDelta = (newGameResult == GameResultEnum.WIN ? 1 : 0)
+                - (!isCreate && oldGameResult == GameResultEnum.WIN ? 1 : 0);
+        if (countDelta == 0 && winDelta == 0) {
+            return;
         }
-    }
 
-    private BigDecimal calculateWinningPercent(Integer totalWins, Integer totalDiaryCount) {
-        if (totalDiaryCount > 0) {
-            return BigDecimal.valueOf(totalWins)
-                    .divide(BigDecimal.valueOf(totalDiaryCount), 4, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
-        } else {
-            return BigDecimal.ZERO;
+        int updatedRows = userRepository.increaseDiaryStatistics(userId, countDelta, winDelta);
+        if (updatedRows == 0) {
+            throw new UserException(UserErrorResult.NOT_FOUND_USER);
         }
     }
 
@@ -220,7 +205,8 @@ public class DiaryService {
                 firstWordOfHomeTeam,
                 firstWordOfAwayTeam,
                 diary.getGameResult().toEnglish(),
-                diary.getGameImg()
+                diary.getGameImg(),
+                diary.getGameDate() + "_" + diary.getCreatedAt() + "_" + diary.getDiaryId()
         );
     }
 
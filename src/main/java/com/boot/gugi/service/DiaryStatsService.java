@@ -0,0 +1,180 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import com.boot.gugi.base.dto.DiaryDTO;
+import com.boot.gugi.model.Diary;
+import com.boot.gugi.model.UserOnboardingInfo;
+import com.boot.gugi.repository.DiaryRepository;
+import com.boot.gugi.repository.RedisRepository;
+import com.boot.gugi.repository.UserOnboardingInfoRepository;
+import com.boot.gugi.repository.UserRepository;
+import com.boot.gugi.token.service.TokenServiceImpl;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class DiaryStatsService {
+
+    private static final String BUILT_CELL = "built";
+    private static final String OPPONENT = "opponent";
+    private static final String STADIUM = "stadium";
+    private static final String SIDE = "side";
+    private static final String MONTH = "month";
+    private static final String WEEKDAY = "weekday";
+    private static final String HOME = "HOME";
+    private static final String AWAY = "AWAY";
+    private static final String NEUTRAL = "NEUTRAL";
+    private static final String STATS_LOCK_PREFIX = "diaryStatsLock:";
+    private static final long STATS_LOCK_WAIT_MILLIS = 3000;
+
+    private final TokenServiceImpl tokenServiceImpl;
+    private final UserRepository userRepository;
+    private final UserOnboardingInfoRepository userOnboardingInfoRepository;
+    private final DiaryRepository diaryRepository;
+    private final RedisRepository redisRepository;
+
+    public DiaryDTO.StatsResponse getMyStats(HttpServletRequest request, HttpServletResponse response) {
+        UUID userId = tokenServiceImpl.getUserIdFromAccessToken(request, response);
+
+        Map<String, Long> cells = redisRepository.findDiaryStats(userId);
+        if (cells.isEmpty()) {
+            cells = rebuildStats(userId);
+        }
+        return convertToStatsResponse(cells);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDiaryChanged(DiaryDTO.DiaryChangedEvent event) {
+        TeamEnum team = findTeam(event.getUserId());
+
+        Map<String, Long> deltas = new HashMap<>();
+        if (event.getPrevious() != null) {
+            cellsOf(event.getPrevious(), team).forEach(cell -> deltas.merge(cell, -1L, Long::sum));
+        }
+        cellsOf(event.getCurrent(), team).forEach(cell -> deltas.merge(cell, 1L, Long::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+
+        boolean locked = redisRepository.runExclusively(STATS_LOCK_PREFIX + event.getUserId(), STATS_LOCK_WAIT_MILLIS,
+                () -> redisRepository.increaseDiaryStats(event.getUserId(), BUILT_CELL, event.getChangedAt(), deltas));
+        if (!locked) {
+            evictStats(event.getUserId());
+        }
+    }
+
+    public void evictStats(UUID userId) {
+        redisRepository.deleteDiaryStats(userId);
+    }
+
+    public static DiaryDTO.DiaryGame toDiaryGame(Diary diary) {
+        return new DiaryDTO.DiaryGame(
+                diary.getGameDate(),
+                diary.getGameStadium(),
+                diary.getHomeTeam(),
+                diary.getAwayTeam(),
+                diary.getGameResult());
+    }
+
+    private Map<String, Long> rebuildStats(UUID userId) {
+        Map<String, Long> cells = new HashMap<>();
+        boolean locked = redisRepository.runExclusively(STATS_LOCK_PREFIX + userId, STATS_LOCK_WAIT_MILLIS, () -> {
+            Map<String, Long> savedCells = redisRepository.findDiaryStats(userId);
+            if (!savedCells.isEmpty()) {
+                cells.putAll(savedCells);
+                return;
+            }
+            cells.putAll(countStats(userId));
+            redisRepository.saveDiaryStats(userId, cells);
+        });
+        if (!locked) {
+            cells.putAll(countStats(userId));
+        }
+        return cells;
+    }
+
+    private Map<String, Long> countStats(UUID userId) {
+        Map<String, Long> cells = new HashMap<>();
+        cells.put(BUILT_CELL, System.currentTimeMillis());
+
+        TeamEnum team = findTeam(userId);
+        diaryRepository.findByUserId(userId).forEach(diary ->
+                cellsOf(toDiaryGame(diary), team).forEach(cell -> cells.merge(cell, 1L, Long::sum)));
+        return cells;
+    }
+
+    private List<String> cellsOf(DiaryDTO.DiaryGame game, TeamEnum team) {
+        String result = game.getGameResult().name();
+        String side = team == null ? NEUTRAL
+                : team == game.getHomeTeam() ? HOME
+                : team == game.getAwayTeam() ? AWAY
+                : NEUTRAL;
+
+        List<String> cells = new ArrayList<>();
+        cells.add(cell(STADIUM, game.getGameStadium().name(), result));
+        cells.add(cell(SIDE, side, result));
+        cells.add(cell(MONTH, String.valueOf(game.getGameDate().getMonthValue()), result));
+        cells.add(cell(WEEKDAY, game.getGameDate().getDayOfWeek().name(), result));
+        if (side.equals(HOME)) {
+            cells.add(cell(OPPONENT, game.getAwayTeam().name(), result));
+        } else if (side.equals(AWAY)) {
+            cells.add(cell(OPPONENT, game.getHomeTeam().name(), result));
+        }
+        return cells;
+    }
+
+    private String cell(String dimension, String value, String result) {
+        return dimension + ":" + value + ":" + result;
+    }
+
+    private TeamEnum findTeam(UUID userId) {
+        UserOnboardingInfo info = userOnboardingInfoRepository.findByUser(userRepository.getReferenceById(userId));
+        if (info == null || info.getTeam() == null) {
+            return null;
+        }
+        try {
+            return TeamEnum.fromString(info.getTeam());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private DiaryDTO.StatsResponse convertToStatsResponse(Map<String, Long> cells) {
+        Map<String, Map<String, DiaryDTO.ResultCount>> dimensions = new HashMap<>();
+        cells.forEach((cell, count) -> {
+            String[] parts = cell.split(":");
+            if (parts.length != 3 || count <= 0) return;
+
+            DiaryDTO.ResultCount resultCount = dimensions
+                    .computeIfAbsent(parts[0], key -> new TreeMap<>())
+                    .computeIfAbsent(toDisplayName(parts[0], parts[1]), key -> new DiaryDTO.ResultCount(0L, 0L, 0L));
+            switch (parts[2]) {
+                case "WIN" -> resultCount.setWins(resultCount.getWins() + count);
+                case "LOSE" -> resultCount.setLosses(resultCount.getLosses() + count);
+                case "DRAW" -> resultCount.setDraws(resultCount.getDraws() + count);
+            }
+        });
+
+        return new DiaryDTO.StatsResponse(
+                dimensions.getOrDefault(OPPONENT, Collections.emptyMap()),
+                dimensions.getOrDefault(STADIUM, Collections.emptyMap()),
+                dimensions.getOrDefault(SIDE, Collections.emptyMap()),
+                dimensions.getOrDefault(MONTH, Collections.emptyMap()),
+                dimensions.getOrDefault(WEEKDAY, Collections.emptyMap()));
+    }
+
+    private String toDisplayName(String dimension, String value) {
+        return switch (dimension) {
+            case OPPONENT -> TeamEnum.valueOf(value).toKorean();
+            case STADIUM -> StadiumEnum.valueOf(value).toKorean();
+            default -> value;
+        };
+    }
+}
@@ -0,0 +1,204 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.repository.MatePostRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@RequiredArgsConstructor
+public class MateDuplicateIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MateDuplicateIndex.class);
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS;
+    private static final double DUPLICATE_SIMILARITY = 0.8;
+    private static final long PRIME = 2_147_483_647L;
+    private static final long[] HASH_A = new long[SIGNATURE_SIZE];
+    private static final long[] HASH_B = new long[SIGNATURE_SIZE];
+
+    static {
+        Random random = new Random(20240601L);
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            HASH_A[i] = 1 + random.nextInt(Integer.MAX_VALUE - 1);
+            HASH_B[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+    }
+
+    private final MatePostRepository matePostRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<LocalDate, Shard> shards = new HashMap<>();
+    private final Map<UUID, LocalDate> dateByMateId = new HashMap<>();
+
+    @Getter
+    @AllArgsConstructor
+    private static class Entry {
+        private UUID userId;
+        private int[] signature;
+    }
+
+    private static class Shard {
+        private final Map<UUID, Entry> entries = new HashMap<>();
+        private final Map<Long, Set<UUID>> buckets = new HashMap<>();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<MatePost> livePosts;
+
+        lock.writeLock().lock();
+        try {
+            livePosts = matePostRepository.findByGameDateGreaterThanEqual(LocalDate.now());
+            shards.clear();
+            dateByMateId.clear();
+            livePosts.forEach(post -> add(post.getMateId(), post.getUser().getUserId(), post.getGameDate(), post.getContent()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Rebuilt mate duplicate index with {} posts.", livePosts.size());
+    }
+
+    public boolean indexIfUnique(MatePost post) {
+        int[] signature = signatureOf(post.getContent());
+
+        lock.writeLock().lock();
+        try {
+            if (signature != null && hasDuplicate(post.getMateId(), post.getUser().getUserId(), post.getGameDate(), signature)) {
+                return false;
+            }
+            removeEntry(post.getMateId());
+            add(post.getMateId(), post.getUser().getUserId(), post.getGameDate(), post.getContent());
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(MatePost post) {
+        index(post.getMateId(), post.getUser().getUserId(), post.getGameDate(), post.getContent());
+    }
+
+    public void index(UUID mateId, UUID userId, LocalDate gameDate, String content) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(mateId);
+            add(mateId, userId, gameDate, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID mateId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(mateId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean hasDuplicate(UUID mateId, UUID userId, LocalDate gameDate, int[] signature) {
+        Shard shard = shards.get(gameDate);
+        if (shard == null) {
+            return false;
+        }
+
+        Set<UUID> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            candidates.addAll(shard.buckets.getOrDefault(bandKey(signature, band), Collections.emptySet()));
+        }
+        candidates.remove(mateId);
+        for (UUID candidate : candidates) {
+            Entry entry = shard.entries.get(candidate);
+            if (entry.getUserId().equals(userId) && similarity(signature, entry.getSignature()) >= DUPLICATE_SIMILARITY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(UUID mateId, UUID userId, LocalDate gameDate, String content) {
+        int[] signature = signatureOf(content);
+        if (signature == null) {
+            return;
+        }
+
+        Shard shard = shards.computeIfAbsent(gameDate, key -> new Shard());
+        shard.entries.put(mateId, new Entry(userId, signature));
+        for (int band = 0; band < BANDS; band++) {
+            shard.buckets.computeIfAbsent(bandKey(signature, band), key -> new HashSet<>()).add(mateId);
+        }
+        dateByMateId.put(mateId, gameDate);
+    }
+
+    private void removeEntry(UUID mateId) {
+        LocalDate gameDate = dateByMateId.remove(mateId);
+        Shard shard = gameDate != null ? shards.get(gameDate) : null;
+        if (shard == null) {
+            return;
+        }
+
+        Entry entry = shard.entries.remove(mateId);
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(entry.getSignature(), band);
+            Set<UUID> bucket = shard.buckets.get(key);
+            if (bucket == null) continue;
+
+            bucket.remove(mateId);
+            if (bucket.isEmpty()) {
+                shard.buckets.remove(key);
+            }
+        }
+        if (shard.entries.isEmpty()) {
+            shards.remove(gameDate);
+        }
+    }
+
+    private int[] signatureOf(String content) {
+        Set<String> shingles = MateTextIndex.tokenize(content);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long value = (shingle.hashCode() & 0xffffffffL) % PRIME;
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int hash = (int) ((HASH_A[i] * value + HASH_B[i]) % PRIME);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 31 + signature[row];
+        }
+        return key;
+    }
+
+    private double similarity(int[] left, int[] right) {
+        int same = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (left[i] == right[i]) same++;
+        }
+        return (double) same / SIGNATURE_SIZE;
+    }
+}
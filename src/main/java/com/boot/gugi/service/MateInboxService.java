@@ -0,0 +1,168 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.base.Enum.ApplicationStatusEnum;
+import com.boot.gugi.base.dto.MatePostStatusDTO;
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.model.MateRequest;
+import com.boot.gugi.repository.RedisRepository;
+import com.boot.gugi.repository.UserOnboardingInfoRepository;
+import com.boot.gugi.token.service.TokenServiceImpl;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class MateInboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MateInboxService.class);
+    private static final int INBOX_PAGE_SIZE = 20;
+    private static final int DELIVERY_BATCH_SIZE = 100;
+    private static final String INBOX_EVENT = "mate-inbox";
+    private static final String DELIVERY_GROUP_PREFIX = "mate-inbox-";
+    private static final long IDLE_GROUP_MILLIS = 30 * 60 * 1000L;
+
+    private final TokenServiceImpl tokenServiceImpl;
+    private final UserOnboardingInfoRepository userOnboardingInfoRepository;
+    private final RedisRepository redisRepository;
+    private final MateSearchService mateSearchService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String deliveryGroup = DELIVERY_GROUP_PREFIX + resolveInstanceName();
+    private volatile boolean deliveryReady = false;
+
+    public void notifyApplied(MateRequest mateRequest) {
+        String nickName = userOnboardingInfoRepository.findNickNameByUser(mateRequest.getApplicant());
+        append(mateRequest.getMatePost().getUser().getUserId(), ApplicationStatusEnum.PENDING, mateRequest, nickName);
+    }
+
+    public void notifyResponded(MateRequest mateRequest, ApplicationStatusEnum status) {
+        String nickName = userOnboardingInfoRepository.findNickNameByUser(mateRequest.getMatePost().getUser());
+        append(mateRequest.getApplicant().getUserId(), status, mateRequest, nickName);
+    }
+
+    public List<MatePostStatusDTO.InboxItemDTO> getInbox(HttpServletRequest request, HttpServletResponse response, String cursor) {
+        UUID userId = tokenServiceImpl.getUserIdFromAccessToken(request, response);
+
+        return redisRepository.findMateInbox(userId, cursor, INBOX_PAGE_SIZE).stream()
+                .map(record -> convertToInboxItemDTO(record.getId().getValue(), record.getValue()))
+                .toList();
+    }
+
+    public long getUnreadCount(HttpServletRequest request, HttpServletResponse response) {
+        UUID userId = tokenServiceImpl.getUserIdFromAccessToken(request, response);
+        return redisRepository.findMateInboxUnread(userId);
+    }
+
+    public void markRead(HttpServletRequest request, HttpServletResponse response) {
+        UUID userId = tokenServiceImpl.getUserIdFromAccessToken(request, response);
+        redisRepository.clearMateInboxUnread(userId);
+    }
+
+    public void deleteInbox(UUID userId) {
+        redisRepository.deleteMateInbox(userId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startDelivery() {
+        redisRepository.createMateInboxGroup(deliveryGroup);
+        deliveryReady = true;
+    }
+
+    @PreDestroy
+    public void stopDelivery() {
+        if (deliveryReady) {
+            redisRepository.deleteMateInboxGroup(deliveryGroup);
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void deliverEvents() {
+        if (!deliveryReady) {
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            records = redisRepository.readMateInboxEvents(deliveryGroup, deliveryGroup, DELIVERY_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read mate inbox group {}, recreating it: {}", deliveryGroup, e.getMessage());
+            redisRepository.createMateInboxGroup(deliveryGroup);
+            return;
+        }
+        List<RecordId> delivered = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                UUID userId = UUID.fromString(record.getValue().get("userId").toString());
+                mateSearchService.sendToUser(userId, INBOX_EVENT, convertToInboxItemDTO(record.getId().getValue(), record.getValue()));
+            } catch (RuntimeException e) {
+                logger.warn("Failed to deliver mate inbox event {}: {}", record.getId(), e.getMessage());
+            }
+            delivered.add(record.getId());
+        }
+        redisRepository.acknowledgeMateInboxEvents(deliveryGroup, delivered);
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void deleteIdleGroups() {
+        List<String> deleted = redisRepository.deleteIdleMateInboxGroups(DELIVERY_GROUP_PREFIX, deliveryGroup, IDLE_GROUP_MILLIS);
+        if (!deleted.isEmpty()) {
+            logger.info("Deleted idle mate inbox groups {}.", deleted);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInboxAppended(MatePostStatusDTO.InboxAppendedEvent event) {
+        redisRepository.appendMateInbox(event.getUserId(), event.getFields());
+    }
+
+    private void append(UUID userId, ApplicationStatusEnum status, MateRequest mateRequest, String nickName) {
+        MatePost matePost = mateRequest.getMatePost();
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put("type", status.getEnglish());
+        fields.put("requestId", mateRequest.getRequestId().toString());
+        fields.put("mateId", matePost.getMateId().toString());
+        fields.put("title", matePost.getTitle() != null ? matePost.getTitle() : "");
+        fields.put("nickName", nickName != null ? nickName : "");
+        fields.put("createdAt", LocalDateTime.now().toString());
+        eventPublisher.publishEvent(new MatePostStatusDTO.InboxAppendedEvent(userId, fields));
+    }
+
+    private static String resolveInstanceName() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + ProcessHandle.current().pid();
+        } catch (UnknownHostException e) {
+            logger.warn("Failed to resolve host name for the mate inbox group: {}", e.getMessage());
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private MatePostStatusDTO.InboxItemDTO convertToInboxItemDTO(String inboxId, Map<Object, Object> fields) {
+        return new MatePostStatusDTO.InboxItemDTO(
+                inboxId,
+                fields.get("type").toString(),
+                UUID.fromString(fields.get("requestId").toString()),
+                UUID.fromString(fields.get("mateId").toString()),
+                fields.get("title").toString(),
+                fields.get("nickName").toString(),
+                LocalDateTime.parse(fields.get("createdAt").toString())
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.repository.MatePostRepository;
+import com.boot.gugi.repository.RedisRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class MateIndexSynchronizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(MateIndexSynchronizer.class);
+    private static final String ACTION_INDEX = "index";
+    private static final String ACTION_REMOVE = "remove";
+
+    private final MatePostRepository matePostRepository;
+    private final MatePostIndex matePostIndex;
+    private final MateDuplicateIndex mateDuplicateIndex;
+    private final RedisRepository redisRepository;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        redisRepository.addMateIndexListener((channel, message) -> apply(message));
+    }
+
+    public void index(MatePost post) {
+        matePostIndex.index(post);
+        mateDuplicateIndex.index(post);
+        publish(ACTION_INDEX, List.of(post.getMateId()));
+    }
+
+    public void remove(Collection<UUID> mateIds) {
+        removeLocally(mateIds);
+        publish(ACTION_REMOVE, mateIds);
+    }
+
+    @Scheduled(cron = "0 */30 * * * ?")
+    public void rebuild() {
+        matePostIndex.rebuild();
+        mateDuplicateIndex.rebuild();
+    }
+
+    private void publish(String action, Collection<UUID> mateIds) {
+        if (mateIds.isEmpty()) {
+            return;
+        }
+        String joined = mateIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        try {
+            redisRepository.publishMateIndexChange(instanceId + "|" + action + "|" + joined);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to broadcast mate index {} for {}: {}", action, joined, e.getMessage());
+        }
+    }
+
+    private void apply(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length < 3 || parts[0].equals(instanceId)) {
+            return;
+        }
+
+        try {
+            List<UUID> mateIds = Arrays.stream(parts[2].split(",")).map(UUID::fromString).toList();
+            if (ACTION_REMOVE.equals(parts[1])) {
+                removeLocally(mateIds);
+                return;
+            }
+
+            Set<UUID> missing = new HashSet<>(mateIds);
+            for (MatePost post : matePostRepository.findAllById(mateIds)) {
+                matePostIndex.index(post);
+                mateDuplicateIndex.index(post);
+                missing.remove(post.getMateId());
+            }
+            removeLocally(missing);
+        } catch (RuntimeException e) {
+            logger.error("Failed to apply mate index change {}: {}", message, e.getMessage(), e);
+        }
+    }
+
+    private void removeLocally(Collection<UUID> mateIds) {
+        mateIds.forEach(matePostIndex::remove);
+        mateIds.forEach(mateDuplicateIndex::remove);
+    }
+}
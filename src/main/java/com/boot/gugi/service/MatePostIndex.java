@@ -0,0 +1,287 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import com.boot.gugi.base.dto.MateDTO;
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.repository.MatePostRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@RequiredArgsConstructor
+public class MatePostIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatePostIndex.class);
+    private static final int COUNTER_BITS = 3;
+    private static final Comparator<Entry> FEED_ORDER = Comparator.comparing(Entry::getUpdatedAt)
+            .thenComparing(Entry::getMateId, MatePostIndex::compareUnsigned)
+            .reversed();
+
+    private final MatePostRepository matePostRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slotByMateId = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+
+    private final Map<GenderEnum, BitSet> genderIndex = new EnumMap<>(GenderEnum.class);
+    private final Map<AgeRangeEnum, BitSet> ageIndex = new EnumMap<>(AgeRangeEnum.class);
+    private final Map<TeamEnum, BitSet> teamIndex = new EnumMap<>(TeamEnum.class);
+    private final Map<StadiumEnum, BitSet> stadiumIndex = new EnumMap<>(StadiumEnum.class);
+    private final Map<Integer, BitSet> memberIndex = new HashMap<>();
+    private final Map<LocalDate, BitSet> dateIndex = new HashMap<>();
+    private final MateTextIndex textIndex = new MateTextIndex();
+
+    private volatile boolean ready = false;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private UUID mateId;
+        private int matchCount;
+        private LocalDateTime updatedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Entry {
+        private UUID mateId;
+        private GenderEnum gender;
+        private AgeRangeEnum age;
+        private TeamEnum homeTeam;
+        private StadiumEnum gameStadium;
+        private Integer member;
+        private LocalDate gameDate;
+        private LocalDateTime updatedAt;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<MatePost> livePosts;
+
+        lock.writeLock().lock();
+        try {
+            livePosts = matePostRepository.findByGameDateGreaterThanEqual(LocalDate.now());
+            clear();
+            livePosts.forEach(this::add);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Rebuilt mate post index with {} posts.", livePosts.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(MatePost post) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(post.getMateId());
+            add(post);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID mateId) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(mateId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Match> findByRelevance(MateDTO.RequestOption options, String keyword, Integer matchCountCursor,
+                                       LocalDateTime updatedAtCursor, UUID mateIdCursor, int limit) {
+        lock.readLock().lock();
+        try {
+            List<BitSet> matches = resolveMatches(options);
+            BitSet[] counters = countMatches(matches);
+            BitSet keywordMatches = keyword != null ? textIndex.search(keyword) : null;
+
+            List<Match> result = new ArrayList<>();
+            int lowest = matches.isEmpty() || keywordMatches != null ? 0 : 1;
+            for (int count = matches.size(); count >= lowest && result.size() < limit; count--) {
+                if (matchCountCursor != null && count > matchCountCursor) {
+                    continue;
+                }
+                BitSet level = levelOf(counters, count);
+                if (keywordMatches != null) {
+                    level.and(keywordMatches);
+                }
+                List<Entry> candidates = new ArrayList<>(level.cardinality());
+                for (int slot = level.nextSetBit(0); slot >= 0; slot = level.nextSetBit(slot + 1)) {
+                    Entry entry = entries.get(slot);
+                    if (matchCountCursor == null || count < matchCountCursor
+                            || isAfterCursor(entry, updatedAtCursor, mateIdCursor)) {
+                        candidates.add(entry);
+                    }
+                }
+                candidates.sort(FEED_ORDER);
+                for (Entry entry : candidates) {
+                    if (result.size() == limit) break;
+                    result.add(new Match(entry.getMateId(), count, entry.getUpdatedAt()));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<BitSet> resolveMatches(MateDTO.RequestOption options) {
+        List<BitSet> matches = new ArrayList<>();
+
+        if (options.getDate() != null) {
+            matches.add(dateIndex.getOrDefault(options.getDate(), new BitSet()));
+        }
+        if (options.getGender() != null) {
+            matches.add(genderIndex.getOrDefault(GenderEnum.fromKorean(options.getGender()), new BitSet()));
+        }
+        if (options.getAge() != null) {
+            matches.add(ageIndex.getOrDefault(AgeRangeEnum.fromString(options.getAge()), new BitSet()));
+        }
+        if (options.getTeam() != null) {
+            matches.add(teamIndex.getOrDefault(TeamEnum.fromString(options.getTeam()), new BitSet()));
+        }
+        if (options.getStadium() != null) {
+            matches.add(stadiumIndex.getOrDefault(StadiumEnum.fromString(options.getStadium()), new BitSet()));
+        }
+        if (options.getMember() != null) {
+            matches.add(memberIndex.getOrDefault(options.getMember(), new BitSet()));
+        }
+
+        return matches;
+    }
+
+    private BitSet[] countMatches(List<BitSet> matches) {
+        BitSet[] counters = new BitSet[COUNTER_BITS];
+        for (int i = 0; i < COUNTER_BITS; i++) {
+            counters[i] = new BitSet();
+        }
+
+        for (BitSet match : matches) {
+            BitSet carry = (BitSet) match.clone();
+            for (int i = 0; i < COUNTER_BITS && !carry.isEmpty(); i++) {
+                BitSet nextCarry = (BitSet) counters[i].clone();
+                nextCarry.and(carry);
+                counters[i].xor(carry);
+                carry = nextCarry;
+            }
+        }
+        return counters;
+    }
+
+    private BitSet levelOf(BitSet[] counters, int count) {
+        BitSet level = (BitSet) live.clone();
+        for (int i = 0; i < COUNTER_BITS; i++) {
+            if ((count & (1 << i)) != 0) {
+                level.and(counters[i]);
+            } else {
+                level.andNot(counters[i]);
+            }
+        }
+        return level;
+    }
+
+    private boolean isAfterCursor(Entry entry, LocalDateTime updatedAtCursor, UUID mateIdCursor) {
+        int compared = entry.getUpdatedAt().compareTo(updatedAtCursor);
+        if (compared != 0 || mateIdCursor == null) {
+            return compared < 0;
+        }
+        return compareUnsigned(entry.getMateId(), mateIdCursor) < 0;
+    }
+
+    private static int compareUnsigned(UUID left, UUID right) {
+        int compared = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        if (compared != 0) {
+            return compared;
+        }
+        return Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    private void add(MatePost post) {
+        int slot = freeSlots.isEmpty() ? entries.size() : freeSlots.pop();
+        Entry entry = new Entry(post.getMateId(), post.getGender(), post.getAge(), post.getHomeTeam(),
+                post.getGameStadium(), post.getMember(), post.getGameDate(), post.getUpdatedAt());
+
+        if (slot == entries.size()) {
+            entries.add(entry);
+        } else {
+            entries.set(slot, entry);
+        }
+        slotByMateId.put(entry.getMateId(), slot);
+        live.set(slot);
+
+        genderIndex.computeIfAbsent(entry.getGender(), key -> new BitSet()).set(slot);
+        ageIndex.computeIfAbsent(entry.getAge(), key -> new BitSet()).set(slot);
+        teamIndex.computeIfAbsent(entry.getHomeTeam(), key -> new BitSet()).set(slot);
+        stadiumIndex.computeIfAbsent(entry.getGameStadium(), key -> new BitSet()).set(slot);
+        memberIndex.computeIfAbsent(entry.getMember(), key -> new BitSet()).set(slot);
+        dateIndex.computeIfAbsent(entry.getGameDate(), key -> new BitSet()).set(slot);
+        textIndex.add(slot, post.getTitle(), post.getContent());
+    }
+
+    private void removeSlot(UUID mateId) {
+        Integer slot = slotByMateId.remove(mateId);
+        if (slot == null) {
+            return;
+        }
+        Entry entry = entries.get(slot);
+
+        clearBit(genderIndex, entry.getGender(), slot);
+        clearBit(ageIndex, entry.getAge(), slot);
+        clearBit(teamIndex, entry.getHomeTeam(), slot);
+        clearBit(stadiumIndex, entry.getGameStadium(), slot);
+        clearBit(memberIndex, entry.getMember(), slot);
+        clearBit(dateIndex, entry.getGameDate(), slot);
+        textIndex.remove(slot);
+
+        live.clear(slot);
+        entries.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private <K> void clearBit(Map<K, BitSet> index, K key, int slot) {
+        BitSet bitmap = index.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.clear(slot);
+        if (bitmap.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private void clear() {
+        slotByMateId.clear();
+        entries.clear();
+        freeSlots.clear();
+        live.clear();
+        genderIndex.clear();
+        ageIndex.clear();
+        teamIndex.clear();
+        stadiumIndex.clear();
+        memberIndex.clear();
+        dateIndex.clear();
+        textIndex.clear();
+    }
+}
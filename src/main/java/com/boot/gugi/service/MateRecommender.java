@@ -0,0 +1,423 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import com.boot.gugi.base.dto.DiaryDTO;
+import com.boot.gugi.base.dto.MateDTO;
+import com.boot.gugi.base.dto.UserDTO;
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.model.User;
+import com.boot.gugi.repository.DiaryRepository;
+import com.boot.gugi.repository.MatePostRepository;
+import com.boot.gugi.repository.RedisRepository;
+import com.boot.gugi.repository.UserOnboardingInfoRepository;
+import com.boot.gugi.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@RequiredArgsConstructor
+public class MateRecommender {
+
+    private static final Logger logger = LoggerFactory.getLogger(MateRecommender.class);
+    private static final int RECOMMENDATION_SIZE = 50;
+    private static final int USER_CHUNK_SIZE = 500;
+    private static final double TEAM_WEIGHT = 3.0;
+    private static final double AGE_WEIGHT = 2.0;
+    private static final double GENDER_WEIGHT = 1.0;
+    private static final double STADIUM_VISIT_WEIGHT = 0.5;
+    private static final double TEAM_SEEN_WEIGHT = 0.3;
+    private static final int HISTORY_CAP = 5;
+    private static final double GAME_SOON_WEIGHT = 0.5;
+
+    private final UserRepository userRepository;
+    private final UserOnboardingInfoRepository userOnboardingInfoRepository;
+    private final DiaryRepository diaryRepository;
+    private final MatePostRepository matePostRepository;
+    private final RedisRepository redisRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Profile> profiles = new HashMap<>();
+    private final Map<TeamEnum, Set<UUID>> usersByTeam = new EnumMap<>(TeamEnum.class);
+    private final Map<StadiumEnum, Set<UUID>> usersByStadium = new EnumMap<>(StadiumEnum.class);
+    private final Map<AgeRangeEnum, Set<UUID>> usersByAge = new EnumMap<>(AgeRangeEnum.class);
+    private final Map<GenderEnum, Set<UUID>> usersByGender = new EnumMap<>(GenderEnum.class);
+    private final Map<UUID, Candidate> candidates = new HashMap<>();
+    private final Map<TeamEnum, Set<UUID>> postsByTeam = new EnumMap<>(TeamEnum.class);
+    private final Map<StadiumEnum, Set<UUID>> postsByStadium = new EnumMap<>(StadiumEnum.class);
+    private final Map<AgeRangeEnum, Set<UUID>> postsByAge = new EnumMap<>(AgeRangeEnum.class);
+    private final Map<GenderEnum, Set<UUID>> postsByGender = new EnumMap<>(GenderEnum.class);
+
+    @Getter
+    @AllArgsConstructor
+    private static class Profile {
+        private UUID userId;
+        private Integer gender;
+        private AgeRangeEnum age;
+        private TeamEnum team;
+        private Map<StadiumEnum, Long> stadiumVisits;
+        private Map<TeamEnum, Long> teamsSeen;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Candidate {
+        private UUID mateId;
+        private UUID writerId;
+        private GenderEnum gender;
+        private AgeRangeEnum age;
+        private TeamEnum homeTeam;
+        private StadiumEnum gameStadium;
+        private Integer member;
+        private Integer confirmedMembers;
+        private LocalDate gameDate;
+
+        private static Candidate of(MatePost post) {
+            return new Candidate(post.getMateId(), post.getUser().getUserId(), post.getGender(), post.getAge(),
+                    post.getHomeTeam(), post.getGameStadium(), post.getMember(), post.getConfirmedMembers(), post.getGameDate());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void refreshAll() {
+        List<Candidate> livePosts = matePostRepository.findByGameDateGreaterThanEqual(LocalDate.now()).stream()
+                .map(Candidate::of)
+                .toList();
+        lock.writeLock().lock();
+        try {
+            candidates.clear();
+            postsByTeam.clear();
+            postsByStadium.clear();
+            postsByAge.clear();
+            postsByGender.clear();
+            livePosts.forEach(this::putCandidate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        int refreshedUsers = 0;
+
+        Page<User> users;
+        int page = 0;
+        do {
+            users = userRepository.findAll(PageRequest.of(page++, USER_CHUNK_SIZE));
+            List<Profile> chunk = buildProfiles(users.getContent());
+
+            lock.writeLock().lock();
+            try {
+                chunk.forEach(this::putProfile);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            chunk.forEach(profile -> redisRepository.saveMateRecommendations(profile.getUserId(), rank(profile, livePosts)));
+            refreshedUsers += chunk.size();
+        } while (users.hasNext());
+
+        logger.info("Refreshed mate recommendations of {} users against {} posts.", refreshedUsers, livePosts.size());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDiaryChanged(DiaryDTO.DiaryChangedEvent event) {
+        refreshUser(event.getUserId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUpdated(UserDTO.UserUpdatedEvent event) {
+        refreshUser(event.getUserId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatePostSaved(MateDTO.MatePostSavedEvent event) {
+        onPostChanged(event.getPost());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMateMembersChanged(MateDTO.MateMembersChangedEvent event) {
+        onPostChanged(event.getPost());
+    }
+
+    private void refreshUser(UUID userId) {
+        userRepository.findByUserId(userId).ifPresent(user -> {
+            Profile profile = buildProfiles(List.of(user)).get(0);
+            List<Candidate> matched;
+
+            lock.writeLock().lock();
+            try {
+                putProfile(profile);
+                matched = findCandidates(profile);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            redisRepository.saveMateRecommendations(userId, rank(profile, matched));
+        });
+    }
+
+    public void removeUser(UUID userId) {
+        lock.writeLock().lock();
+        try {
+            removeProfile(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        redisRepository.deleteMateRecommendations(userId);
+    }
+
+    public void onPostsRemoved(Collection<UUID> mateIds) {
+        Map<UUID, List<UUID>> audienceByPost = new HashMap<>();
+
+        lock.writeLock().lock();
+        try {
+            for (UUID mateId : mateIds) {
+                Candidate candidate = candidates.get(mateId);
+                if (candidate == null) continue;
+
+                audienceByPost.put(mateId, findAudience(candidate).stream()
+                        .filter(userId -> score(profiles.get(userId), candidate) > 0)
+                        .toList());
+                removeCandidate(mateId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        audienceByPost.forEach((mateId, users) ->
+                redisRepository.updateMateRecommendations(mateId, Collections.emptyMap(), users, RECOMMENDATION_SIZE));
+    }
+
+    private void onPostChanged(MatePost post) {
+        Candidate candidate = Candidate.of(post);
+        Map<UUID, Double> scoresByUser = new HashMap<>();
+        List<UUID> removedUsers = new ArrayList<>();
+
+        lock.writeLock().lock();
+        try {
+            Candidate previous = candidates.get(candidate.getMateId());
+            putCandidate(candidate);
+
+            Set<UUID> users = findAudience(candidate);
+            if (previous != null) {
+                users.addAll(findAudience(previous));
+            }
+
+            for (UUID userId : users) {
+                double score = score(profiles.get(userId), candidate);
+                if (score > 0) {
+                    scoresByUser.put(userId, score);
+                } else {
+                    removedUsers.add(userId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        redisRepository.updateMateRecommendations(post.getMateId(), scoresByUser, removedUsers, RECOMMENDATION_SIZE);
+    }
+
+    private Set<UUID> findAudience(Candidate candidate) {
+        Set<UUID> users = new HashSet<>(usersByTeam.getOrDefault(candidate.getHomeTeam(), Collections.emptySet()));
+        users.addAll(usersByStadium.getOrDefault(candidate.getGameStadium(), Collections.emptySet()));
+        users.addAll(usersByAge.getOrDefault(candidate.getAge(), Collections.emptySet()));
+        if (candidate.getGender() != GenderEnum.ANY) {
+            users.addAll(usersByGender.getOrDefault(candidate.getGender(), Collections.emptySet()));
+        }
+        return users;
+    }
+
+    private List<Profile> buildProfiles(List<User> users) {
+        Map<UUID, String> teamByUser = new HashMap<>();
+        userOnboardingInfoRepository.findAllByUserIn(users)
+                .forEach(info -> teamByUser.put(info.getUser().getUserId(), info.getTeam()));
+
+        Map<UUID, Map<StadiumEnum, Long>> stadiumVisits = new HashMap<>();
+        Map<UUID, Map<TeamEnum, Long>> teamsSeen = new HashMap<>();
+        diaryRepository.countGamesByUserIdIn(users.stream().map(User::getUserId).toList()).forEach(games -> {
+            stadiumVisits.computeIfAbsent(games.getUserId(), key -> new EnumMap<>(StadiumEnum.class))
+                    .merge(games.getGameStadium(), games.getGames(), Long::sum);
+            Map<TeamEnum, Long> seen = teamsSeen.computeIfAbsent(games.getUserId(), key -> new EnumMap<>(TeamEnum.class));
+            seen.merge(games.getHomeTeam(), games.getGames(), Long::sum);
+            seen.merge(games.getAwayTeam(), games.getGames(), Long::sum);
+        });
+
+        List<Profile> result = new ArrayList<>();
+        for (User user : users) {
+            UUID userId = user.getUserId();
+            result.add(new Profile(
+                    userId,
+                    user.getGender(),
+                    AgeRangeEnum.fromAge(user.getAge()),
+                    toTeam(teamByUser.get(userId)),
+                    stadiumVisits.getOrDefault(userId, Collections.emptyMap()),
+                    teamsSeen.getOrDefault(userId, Collections.emptyMap())));
+        }
+        return result;
+    }
+
+    private List<Candidate> findCandidates(Profile profile) {
+        Set<UUID> mateIds = new HashSet<>();
+        if (profile.getTeam() != null) {
+            mateIds.addAll(postsByTeam.getOrDefault(profile.getTeam(), Collections.emptySet()));
+        }
+        profile.getTeamsSeen().keySet().forEach(team ->
+                mateIds.addAll(postsByTeam.getOrDefault(team, Collections.emptySet())));
+        profile.getStadiumVisits().keySet().forEach(stadium ->
+                mateIds.addAll(postsByStadium.getOrDefault(stadium, Collections.emptySet())));
+        mateIds.addAll(postsByAge.getOrDefault(profile.getAge(), Collections.emptySet()));
+        GenderEnum gender = toGender(profile.getGender());
+        if (gender != null) {
+            mateIds.addAll(postsByGender.getOrDefault(gender, Collections.emptySet()));
+        }
+
+        return mateIds.stream().map(candidates::get).filter(Objects::nonNull).toList();
+    }
+
+    private Map<UUID, Double> rank(Profile profile, List<Candidate> livePosts) {
+        PriorityQueue<Map.Entry<UUID, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Candidate post : livePosts) {
+            double score = score(profile, post);
+            if (score <= 0) continue;
+
+            top.offer(Map.entry(post.getMateId(), score));
+            if (top.size() > RECOMMENDATION_SIZE) {
+                top.poll();
+            }
+        }
+
+        Map<UUID, Double> result = new HashMap<>();
+        top.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private double score(Profile profile, Candidate post) {
+        if (post.getWriterId().equals(profile.getUserId())
+                || post.getConfirmedMembers() >= post.getMember()
+                || !isGenderAllowed(post.getGender(), profile.getGender())) {
+            return 0;
+        }
+
+        double score = 0;
+        if (post.getGender() != GenderEnum.ANY) score += GENDER_WEIGHT;
+        if (post.getAge() == profile.getAge()) score += AGE_WEIGHT;
+        if (post.getHomeTeam() == profile.getTeam()) score += TEAM_WEIGHT;
+        score += STADIUM_VISIT_WEIGHT * Math.min(profile.getStadiumVisits().getOrDefault(post.getGameStadium(), 0L), HISTORY_CAP);
+        score += TEAM_SEEN_WEIGHT * Math.min(profile.getTeamsSeen().getOrDefault(post.getHomeTeam(), 0L), HISTORY_CAP);
+        if (score == 0) {
+            return 0;
+        }
+
+        long daysUntilGame = Math.max(0, ChronoUnit.DAYS.between(LocalDate.now(), post.getGameDate()));
+        return score + GAME_SOON_WEIGHT / (1 + daysUntilGame);
+    }
+
+    private boolean isGenderAllowed(GenderEnum postGender, Integer userGender) {
+        return switch (postGender) {
+            case MALE_ONLY -> userGender == 1;
+            case FEMALE_ONLY -> userGender == 2;
+            case ANY -> true;
+        };
+    }
+
+    private GenderEnum toGender(Integer gender) {
+        if (gender == null) return null;
+        return switch (gender) {
+            case 1 -> GenderEnum.MALE_ONLY;
+            case 2 -> GenderEnum.FEMALE_ONLY;
+            default -> null;
+        };
+    }
+
+    private TeamEnum toTeam(String team) {
+        if (team == null) return null;
+        try {
+            return TeamEnum.fromString(team);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void putProfile(Profile profile) {
+        removeProfile(profile.getUserId());
+        profiles.put(profile.getUserId(), profile);
+        if (profile.getTeam() != null) {
+            usersByTeam.computeIfAbsent(profile.getTeam(), key -> new HashSet<>()).add(profile.getUserId());
+        }
+        profile.getTeamsSeen().keySet().forEach(team ->
+                usersByTeam.computeIfAbsent(team, key -> new HashSet<>()).add(profile.getUserId()));
+        profile.getStadiumVisits().keySet().forEach(stadium ->
+                usersByStadium.computeIfAbsent(stadium, key -> new HashSet<>()).add(profile.getUserId()));
+        if (profile.getAge() != null) {
+            usersByAge.computeIfAbsent(profile.getAge(), key -> new HashSet<>()).add(profile.getUserId());
+        }
+        GenderEnum gender = toGender(profile.getGender());
+        if (gender != null) {
+            usersByGender.computeIfAbsent(gender, key -> new HashSet<>()).add(profile.getUserId());
+        }
+    }
+
+    private void putCandidate(Candidate candidate) {
+        removeCandidate(candidate.getMateId());
+        candidates.put(candidate.getMateId(), candidate);
+        postsByTeam.computeIfAbsent(candidate.getHomeTeam(), key -> new HashSet<>()).add(candidate.getMateId());
+        postsByStadium.computeIfAbsent(candidate.getGameStadium(), key -> new HashSet<>()).add(candidate.getMateId());
+        postsByAge.computeIfAbsent(candidate.getAge(), key -> new HashSet<>()).add(candidate.getMateId());
+        if (candidate.getGender() != GenderEnum.ANY) {
+            postsByGender.computeIfAbsent(candidate.getGender(), key -> new HashSet<>()).add(candidate.getMateId());
+        }
+    }
+
+    private void removeCandidate(UUID mateId) {
+        Candidate candidate = candidates.remove(mateId);
+        if (candidate == null) {
+            return;
+        }
+        postsByTeam.getOrDefault(candidate.getHomeTeam(), new HashSet<>()).remove(mateId);
+        postsByStadium.getOrDefault(candidate.getGameStadium(), new HashSet<>()).remove(mateId);
+        postsByAge.getOrDefault(candidate.getAge(), new HashSet<>()).remove(mateId);
+        postsByGender.getOrDefault(candidate.getGender(), new HashSet<>()).remove(mateId);
+    }
+
+    private void removeProfile(UUID userId) {
+        Profile profile = profiles.remove(userId);
+        if (profile == null) {
+            return;
+        }
+        if (profile.getTeam() != null) {
+            usersByTeam.getOrDefault(profile.getTeam(), new HashSet<>()).remove(userId);
+        }
+        profile.getTeamsSeen().keySet().forEach(team ->
+                usersByTeam.getOrDefault(team, new HashSet<>()).remove(userId));
+        profile.getStadiumVisits().keySet().forEach(stadium ->
+                usersByStadium.getOrDefault(stadium, new HashSet<>()).remove(userId));
+        if (profile.getAge() != null) {
+            usersByAge.getOrDefault(profile.getAge(), new HashSet<>()).remove(userId);
+        }
+        GenderEnum gender = toGender(profile.getGender());
+        if (gender != null) {
+            usersByGender.getOrDefault(gender, new HashSet<>()).remove(userId);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.model.MateSearch;
+import com.boot.gugi.repository.MateSearchRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@RequiredArgsConstructor
+public class MateSearchMatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(MateSearchMatcher.class);
+
+    private final MateSearchRepository mateSearchRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Subscription> subscriptions = new HashMap<>();
+    private final Map<String, Set<UUID>> searchIdsByTerm = new HashMap<>();
+
+    @Getter
+    @AllArgsConstructor
+    public static class Subscription {
+        private UUID searchId;
+        private UUID userId;
+        private List<String> terms;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<MateSearch> searches = mateSearchRepository.findAll();
+
+        lock.writeLock().lock();
+        try {
+            subscriptions.clear();
+            searchIdsByTerm.clear();
+            searches.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Rebuilt mate search matcher with {} saved searches.", searches.size());
+    }
+
+    public void register(MateSearch search) {
+        lock.writeLock().lock();
+        try {
+            removeSubscription(search.getSearchId());
+            add(search);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void unregister(UUID searchId) {
+        lock.writeLock().lock();
+        try {
+            removeSubscription(searchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Subscription> match(MatePost post) {
+        lock.readLock().lock();
+        try {
+            Map<UUID, Integer> hits = new HashMap<>();
+            for (String term : termsOf(post)) {
+                for (UUID searchId : searchIdsByTerm.getOrDefault(term, Collections.emptySet())) {
+                    hits.merge(searchId, 1, Integer::sum);
+                }
+            }
+
+            List<Subscription> matched = new ArrayList<>();
+            hits.forEach((searchId, count) -> {
+                Subscription subscription = subscriptions.get(searchId);
+                if (subscription.getTerms().size() == count) {
+                    matched.add(subscription);
+                }
+            });
+            return matched;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static List<String> termsOf(MateSearch search) {
+        List<String> terms = new ArrayList<>();
+        if (search.getGameDate() != null) terms.add("date:" + search.getGameDate());
+        if (search.getGender() != null) terms.add("gender:" + search.getGender().name());
+        if (search.getAge() != null) terms.add("age:" + search.getAge().name());
+        if (search.getHomeTeam() != null) terms.add("team:" + search.getHomeTeam().name());
+        if (search.getGameStadium() != null) terms.add("stadium:" + search.getGameStadium().name());
+        if (search.getMember() != null) terms.add("member:" + search.getMember());
+        return terms;
+    }
+
+    private List<String> termsOf(MatePost post) {
+        return List.of(
+                "date:" + post.getGameDate(),
+                "gender:" + post.getGender().name(),
+                "age:" + post.getAge().name(),
+                "team:" + post.getHomeTeam().name(),
+                "stadium:" + post.getGameStadium().name(),
+                "member:" + post.getMember());
+    }
+
+    private void add(MateSearch search) {
+        Subscription subscription = new Subscription(search.getSearchId(), search.getUser().getUserId(), termsOf(search));
+        subscriptions.put(subscription.getSearchId(), subscription);
+        subscription.getTerms().forEach(term ->
+                searchIdsByTerm.computeIfAbsent(term, key -> new HashSet<>()).add(subscription.getSearchId()));
+    }
+
+    private void removeSubscription(UUID searchId) {
+        Subscription subscription = subscriptions.remove(searchId);
+        if (subscription == null) {
+            return;
+        }
+        for (String term : subscription.getTerms()) {
+            Set<UUID> searchIds = searchIdsByTerm.get(term);
+            if (searchIds == null) continue;
+
+            searchIds.remove(searchId);
+            if (searchIds.isEmpty()) {
+                searchIdsByTerm.remove(term);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import com.boot.gugi.base.dto.MateDTO;
+import com.boot.gugi.exception.PostErrorResult;
+import com.boot.gugi.exception.PostException;
+import com.boot.gugi.exception.UserErrorResult;
+import com.boot.gugi.exception.UserException;
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.model.MateSearch;
+import com.boot.gugi.model.User;
+import com.boot.gugi.repository.MateSearchRepository;
+import com.boot.gugi.repository.UserRepository;
+import com.boot.gugi.token.service.TokenServiceImpl;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Service
+@RequiredArgsConstructor
+public class MateSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MateSearchService.class);
+    private static final long EMITTER_TIMEOUT = 30 * 60 * 1000L;
+    private static final String ALERT_EVENT = "mate-alert";
+
+    private final TokenServiceImpl tokenServiceImpl;
+    private final UserRepository userRepository;
+    private final MateSearchRepository mateSearchRepository;
+    private final MateSearchMatcher mateSearchMatcher;
+
+    private final Map<UUID, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Transactional
+    public MateDTO.SearchResponse saveSearch(HttpServletRequest request, HttpServletResponse response, MateDTO.RequestOption options) {
+        User user = validateUser(request, response);
+
+        MateSearch search = createMateSearch(user, options);
+        if (MateSearchMatcher.termsOf(search).isEmpty()) {
+            throw new PostException(PostErrorResult.EMPTY_MATE_SEARCH);
+        }
+
+        mateSearchRepository.save(search);
+        mateSearchMatcher.register(search);
+        return convertToSearchDTO(search);
+    }
+
+    public List<MateDTO.SearchResponse> getSearches(HttpServletRequest request, HttpServletResponse response) {
+        User user = validateUser(request, response);
+
+        return mateSearchRepository.findAllByUser(user).stream()
+                .map(this::convertToSearchDTO)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteSearch(HttpServletRequest request, HttpServletResponse response, UUID searchId) {
+        User user = validateUser(request, response);
+        MateSearch search = mateSearchRepository.findById(searchId)
+                .orElseThrow(() -> new PostException(PostErrorResult.NOT_FOUND_MATE_SEARCH));
+
+        if (!search.getUser().getUserId().equals(user.getUserId())) {
+            throw new PostException(PostErrorResult.UNAUTHORIZED_ACCESS);
+        }
+
+        mateSearchRepository.delete(search);
+        mateSearchMatcher.unregister(searchId);
+    }
+
+    public void deleteSearches(User user) {
+        mateSearchRepository.findAllByUser(user)
+                .forEach(search -> mateSearchMatcher.unregister(search.getSearchId()));
+        mateSearchRepository.deleteAllByUser(user);
+    }
+
+    public SseEmitter subscribe(HttpServletRequest request, HttpServletResponse response) {
+        User user = validateUser(request, response);
+        UUID userId = user.getUserId();
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT);
+        emitters.computeIfAbsent(userId, key -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> removeEmitter(userId, emitter));
+        emitter.onTimeout(() -> removeEmitter(userId, emitter));
+        emitter.onError(e -> removeEmitter(userId, emitter));
+
+        try {
+            emitter.send(SseEmitter.event().name("connect").data(userId.toString()));
+        } catch (IOException e) {
+            removeEmitter(userId, emitter);
+        }
+        return emitter;
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatePostSaved(MateDTO.MatePostSavedEvent event) {
+        publish(event.getPost());
+    }
+
+    private void publish(MatePost post) {
+        UUID writerId = post.getUser().getUserId();
+
+        for (MateSearchMatcher.Subscription subscription : mateSearchMatcher.match(post)) {
+            if (subscription.getUserId().equals(writerId)) continue;
+
+            MateDTO.SearchAlert alert = new MateDTO.SearchAlert(subscription.getSearchId(), post.getMateId(), post.getTitle());
+            sendToUser(subscription.getUserId(), ALERT_EVENT, alert);
+        }
+    }
+
+    public void sendToUser(UUID userId, String eventName, Object data) {
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : userEmitters) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(data));
+            } catch (IOException e) {
+                logger.warn("Failed to send {} to user {}: {}", eventName, userId, e.getMessage());
+                removeEmitter(userId, emitter);
+            }
+        }
+    }
+
+    private void removeEmitter(UUID userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+
+    private User validateUser(HttpServletRequest request, HttpServletResponse response) {
+        UUID userId = tokenServiceImpl.getUserIdFromAccessToken(request, response);
+        return userRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserException(UserErrorResult.NOT_FOUND_USER));
+    }
+
+    private MateSearch createMateSearch(User user, MateDTO.RequestOption options) {
+        return MateSearch.builder()
+                .user(user)
+                .gender(options.getGender() != null ? GenderEnum.fromKorean(options.getGender()) : null)
+                .age(options.getAge() != null ? AgeRangeEnum.fromString(options.getAge()) : null)
+                .gameDate(options.getDate())
+                .homeTeam(options.getTeam() != null ? TeamEnum.fromString(options.getTeam()) : null)
+                .member(options.getMember())
+                .gameStadium(options.getStadium() != null ? StadiumEnum.fromString(options.getStadium()) : null)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private MateDTO.SearchResponse convertToSearchDTO(MateSearch search) {
+        return new MateDTO.SearchResponse(
+                search.getSearchId(),
+                new MateDTO.RequestOption(
+                        search.getGender() != null ? search.getGender().toKorean() : null,
+                        search.getAge() != null ? search.getAge().toKorean() : null,
+                        search.getGameDate(),
+                        search.getHomeTeam() != null ? search.getHomeTeam().toKorean() : null,
+                        search.getMember(),
+                        search.getGameStadium() != null ? search.getGameStadium().toKorean() : null)
+        );
+    }
+}
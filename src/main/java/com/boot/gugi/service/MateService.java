@@ -9,29 +9,50 @@ import com.boot.gugi.exception.UserException;
 import com.boot.gugi.model.MatePost;
 import com.boot.gugi.model.MateRequest;
 import com.boot.gugi.model.QMatePost;
+import com.boot.gugi.model.TeamSchedule;
 import com.boot.gugi.model.User;
 import com.boot.gugi.repository.MateRequestRepository;
 import com.boot.gugi.repository.MatePostRepository;
+import com.boot.gugi.repository.RedisRepository;
+import com.boot.gugi.repository.TeamScheduleRepository;
+import com.boot.gugi.repository.UserOnboardingInfoRepository;
 import com.boot.gugi.repository.UserRepository;
 import com.boot.gugi.token.service.TokenServiceImpl;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.time.LocalDateTime;
-import java.util.stream.Collectors;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -42,8 +63,49 @@ public class MateService {
     private final MatePostRepository matePostRepository;
     private final MateRequestRepository mateRequestRepository;
     private final JPAQueryFactory queryFactory;
+    private final MatePostIndex matePostIndex;
+    private final RedisRepository redisRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TeamScheduleRepository teamScheduleRepository;
+    private final UserOnboardingInfoRepository userOnboardingInfoRepository;
+    private final MateViewCounter mateViewCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MateRecommender mateRecommender;
+    private final MateDuplicateIndex mateDuplicateIndex;
+    private final MateIndexSynchronizer mateIndexSynchronizer;
+    private final MateTrendingRanker mateTrendingRanker;
+    private final MateInboxService mateInboxService;
 
     private static final Logger logger = LoggerFactory.getLogger(MateService.class);
+    private static final int PAGE_SIZE = 5;
+    private static final int EXPIRY_CHUNK_SIZE = 500;
+    private static final DateTimeFormatter GAME_DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+    private static final int RELEVANCE_CACHE_SIZE = 100;
+    private static final String RELEVANCE_ALL_TOKEN = "all";
+    private static final long BOARD_GAMES_EXPIRATION_TIME = 10 * 60 * 1000L;
+    private static final String QUICK_MATCH_TITLE = "빠른 매칭으로 모인 직관 메이트";
+    private static final String QUICK_MATCH_CONTENT = "빠른 매칭으로 함께하게 된 메이트입니다.";
+    private static final String QUICK_MATCH_CONTACT = "빠른 매칭";
+    private static final String FACET_TEAM = "team";
+    private static final String FACET_STADIUM = "stadium";
+    private static final String FACET_DATE = "date";
+    private static final String FACET_GENDER = "gender";
+    private static final String FACET_AGE = "age";
+    private static final String FACET_MEMBER = "member";
+    private static final List<String> FACETS = List.of(FACET_TEAM, FACET_STADIUM, FACET_DATE, FACET_GENDER, FACET_AGE, FACET_MEMBER);
+    private static final List<ApplicationStatusEnum> APPLICANT_STATUSES = List.of(ApplicationStatusEnum.PENDING, ApplicationStatusEnum.ACCEPTED);
+    private static final String CACHE_TIMELINE = "timeline";
+    private static final String CACHE_BOARD = "board";
+    private static final String CACHE_FACETS = "facets";
+    private static final String CACHE_EXPIRY = "expiry";
+    private static final String CACHE_TRENDING = "trending";
+    private static final List<String> MATE_CACHES = List.of(CACHE_TIMELINE, CACHE_BOARD, CACHE_FACETS, CACHE_EXPIRY, CACHE_TRENDING);
+    private static final String MATE_CACHE_REBUILD_LOCK = "mateCacheRebuildLock";
+    private static final String MATE_EXPIRY_LOCK = "mateExpiryLock";
+    private static final long MATE_EXPIRY_LOCK_WAIT_MILLIS = 30000;
+
+    @Value("${mate.relevance.expiration-time:30000}")
+    private long RELEVANCE_EXPIRATION_TIME;
 
     @Transactional
     public void createMatePost(HttpServletRequest request, HttpServletResponse response, MateDTO.MateRequest matePostDetails) {
@@ -51,6 +113,64 @@ public class MateService {
 
         MatePost savedMate = createMateInfo(writer, matePostDetails);
         matePostRepository.save(savedMate);
+        reserveUniqueContent(savedMate, null, null);
+        registerMatePost(savedMate);
+        eventPublisher.publishEvent(new MateDTO.MatePostSavedEvent(savedMate));
+    }
+
+    @Transactional
+    public UUID createQuickMatchPost(List<MateDTO.QuickMatchTicket> party) {
+        MateDTO.QuickMatchTicket owner = party.get(0);
+        User writer = userRepository.findByUserId(owner.getUserId())
+                .orElseThrow(() -> new UserException(UserErrorResult.NOT_FOUND_USER));
+
+        MatePost savedMate = MatePost.builder()
+                .user(writer)
+                .title(QUICK_MATCH_TITLE)
+                .content(QUICK_MATCH_CONTENT)
+                .contact(QUICK_MATCH_CONTACT)
+                .gender(resolvePartyGender(party))
+                .age(owner.getAgePreference() != null ? owner.getAgePreference() : owner.getAge())
+                .gameDate(owner.getDate())
+                .homeTeam(owner.getTeam())
+                .member(party.size())
+                .confirmedMembers(party.size())
+                .gameStadium(owner.getStadium())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        matePostRepository.save(savedMate);
+
+        for (MateDTO.QuickMatchTicket member : party.subList(1, party.size())) {
+            mateRequestRepository.save(MateRequest.builder()
+                    .applicant(userRepository.getReferenceById(member.getUserId()))
+                    .matePost(savedMate)
+                    .status(ApplicationStatusEnum.ACCEPTED)
+                    .appliedAt(LocalDateTime.now())
+                    .build());
+        }
+
+        registerMatePost(savedMate);
+        return savedMate.getMateId();
+    }
+
+    private GenderEnum resolvePartyGender(List<MateDTO.QuickMatchTicket> party) {
+        return party.stream()
+                .map(MateDTO.QuickMatchTicket::getGenderPreference)
+                .filter(gender -> gender != GenderEnum.ANY)
+                .findFirst()
+                .orElse(GenderEnum.ANY);
+    }
+
+    private void registerMatePost(MatePost post) {
+        List<TeamSchedule> gamesOfDay = findGamesOfDay(post.getGameDate());
+        runAfterCommit(() -> {
+            cacheMatePost(post);
+            scheduleMateExpiry(post, gamesOfDay);
+            redisRepository.increaseMateFacets(getFacetValues(post), 1);
+            mateTrendingRanker.recordCreated(post);
+        });
+        increaseMateVersionsAfterCommit(getRelevanceTokens(post), post.getGameDate());
     }
 
     @Transactional
@@ -61,9 +181,30 @@ public class MateService {
         if (!existingMatePost.getUser().getUserId().equals(writer.getUserId())) {
             throw new PostException(PostErrorResult.UNAUTHORIZED_ACCESS);
         }
+        if (isGameStarted(existingMatePost)) {
+            throw new PostException(PostErrorResult.GAME_ALREADY_STARTED);
+        }
 
+        Set<String> relevanceTokens = getRelevanceTokens(existingMatePost);
+        Map<String, String> oldFacetValues = getFacetValues(existingMatePost);
+        LocalDate oldGameDate = existingMatePost.getGameDate();
+        StadiumEnum oldStadium = existingMatePost.getGameStadium();
+        String oldContent = existingMatePost.getContent();
         updateMatePostInfo(existingMatePost, matePostDetails);
         matePostRepository.save(existingMatePost);
+        reserveUniqueContent(existingMatePost, oldGameDate, oldContent);
+        List<TeamSchedule> gamesOfDay = findGamesOfDay(existingMatePost.getGameDate());
+        Map<String, String> newFacetValues = getFacetValues(existingMatePost);
+        runAfterCommit(() -> {
+            redisRepository.removeFromMateBoard(oldGameDate, oldStadium, List.of(mateId));
+            cacheMatePost(existingMatePost);
+            scheduleMateExpiry(existingMatePost, gamesOfDay);
+            updateMateFacets(oldFacetValues, newFacetValues);
+        });
+
+        relevanceTokens.addAll(getRelevanceTokens(existingMatePost));
+        increaseMateVersionsAfterCommit(relevanceTokens, existingMatePost.getGameDate());
+        eventPublisher.publishEvent(new MateDTO.MatePostSavedEvent(existingMatePost));
     }
 
     private User validateUser(HttpServletRequest request, HttpServletResponse response) {
@@ -116,164 +257,711 @@ public class MateService {
         existingMatePost.setUpdatedAt(LocalDateTime.now());
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 60000)
+    public void rebuildMateCaches() {
+        if (findUnseededCaches().isEmpty()) {
+            return;
+        }
+        redisRepository.runExclusively(MATE_CACHE_REBUILD_LOCK, 0, this::reseedMateCaches);
+    }
+
+    private List<String> findUnseededCaches() {
+        return MATE_CACHES.stream()
+                .filter(cache -> !redisRepository.isMateCacheSeeded(cache))
+                .toList();
+    }
+
+    private void reseedMateCaches() {
+        List<String> unseeded = findUnseededCaches();
+        if (unseeded.isEmpty()) {
+            return;
+        }
+
+        List<MatePost> livePosts = matePostRepository.findByGameDateGreaterThanEqual(LocalDate.now());
+        if (unseeded.contains(CACHE_TIMELINE)) {
+            livePosts.forEach(post -> {
+                redisRepository.saveMateCard(convertToMateCard(post));
+                redisRepository.seedMateViewCount(post.getMateId(), post.getViewCount() != null ? post.getViewCount() : 0L);
+            });
+        }
+        if (unseeded.contains(CACHE_BOARD)) {
+            livePosts.forEach(this::syncMateBoard);
+        }
+        if (unseeded.contains(CACHE_FACETS)) {
+            redisRepository.deleteMateFacets(FACETS);
+            livePosts.forEach(post -> redisRepository.increaseMateFacets(getFacetValues(post), 1));
+        }
+        if (unseeded.contains(CACHE_EXPIRY)) {
+            Map<LocalDate, List<TeamSchedule>> gamesByDay = new HashMap<>();
+            livePosts.forEach(post -> scheduleMateExpiry(post,
+                    gamesByDay.computeIfAbsent(post.getGameDate(), this::findGamesOfDay)));
+        }
+        if (unseeded.contains(CACHE_TRENDING)) {
+            mateTrendingRanker.seed(livePosts);
+        }
+        unseeded.forEach(redisRepository::markMateCacheSeeded);
+
+        logger.info("Rebuilt mate caches {} with {} posts.", unseeded, livePosts.size());
+    }
+
+    public void syncMatePost(MatePost post) {
+        if (isGameStarted(post)) {
+            return;
+        }
+        runAfterCommit(() -> cacheMatePost(post));
+    }
+
+    public void refreshMateDetail(UUID mateId) {
+        runAfterCommit(() -> matePostRepository.findById(mateId)
+                .ifPresent(post -> redisRepository.saveMateDetail(buildMateDetail(post))));
+    }
+
+    private void cacheMatePost(MatePost post) {
+        mateIndexSynchronizer.index(post);
+        redisRepository.saveMateCard(convertToMateCard(post));
+        redisRepository.saveMateDetail(buildMateDetail(post));
+        syncMateBoard(post);
+    }
+
+    private void syncMateBoard(MatePost post) {
+        if (post.getConfirmedMembers() < post.getMember()) {
+            redisRepository.addToMateBoard(post.getGameDate(), post.getGameStadium(), post.getMateId(), post.getUpdatedAt());
+        } else {
+            redisRepository.removeFromMateBoard(post.getGameDate(), post.getGameStadium(), List.of(post.getMateId()));
+        }
+    }
+
+    public void evictMateDetails(Collection<UUID> mateIds) {
+        runAfterCommit(() -> redisRepository.deleteMateDetails(mateIds));
+    }
+
+    public void evictMatePosts(List<MatePost> posts) {
+        evictMatePostIds(posts.stream().map(MatePost::getMateId).toList());
+        posts.forEach(post -> redisRepository.removeFromMateBoard(post.getGameDate(), post.getGameStadium(), List.of(post.getMateId())));
+
+        Set<String> relevanceTokens = new HashSet<>();
+        posts.forEach(post -> relevanceTokens.addAll(getRelevanceTokens(post)));
+        posts.stream().map(MatePost::getGameDate).max(Comparator.naturalOrder())
+                .ifPresent(lastGameDate -> increaseMateVersionsAfterCommit(relevanceTokens, lastGameDate));
+
+        posts.forEach(post -> redisRepository.increaseMateFacets(getFacetValues(post), -1));
+    }
+
+    private void evictMatePostIds(List<UUID> mateIds) {
+        mateIndexSynchronizer.remove(mateIds);
+        redisRepository.deleteMateCards(mateIds);
+        redisRepository.deleteMateDetails(mateIds);
+        redisRepository.deleteMateExpiries(mateIds);
+        redisRepository.deleteMateViews(mateIds);
+        redisRepository.deleteMateTrending(mateIds);
+        mateViewCounter.forget(mateIds);
+        mateRecommender.onPostsRemoved(mateIds);
+    }
+
+    public MateDTO.ResponseDetail getMatePostDetail(HttpServletRequest request, UUID mateId) {
+        MateDTO.MateDetail detail = redisRepository.findMateDetail(mateId);
+        if (detail == null) {
+            detail = buildMateDetail(getMatePostById(mateId));
+            redisRepository.saveMateDetail(detail);
+        }
+        mateViewCounter.record(mateId, tokenServiceImpl.findUserIdFromAccessToken(request), request.getRemoteAddr());
+
+        MateDTO.ViewCount viewCount = redisRepository.findMateViewCounts(List.of(mateId)).get(mateId);
+        return convertToDetailDTO(detail, viewCount);
+    }
+
+    private MateDTO.MateDetail buildMateDetail(MatePost post) {
+        return new MateDTO.MateDetail(
+                convertToMateCard(post),
+                userOnboardingInfoRepository.findNickNameByUser(post.getUser()),
+                mateRequestRepository.countByMatePostAndStatusIn(post, APPLICANT_STATUSES)
+        );
+    }
+
+    public MateDTO.FacetResponse getMateFacets() {
+        Map<String, Map<String, Long>> facets = redisRepository.isMateCacheSeeded(CACHE_FACETS)
+                ? redisRepository.findMateFacets(FACETS)
+                : countMateFacetsFromDatabase();
+
+        return new MateDTO.FacetResponse(
+                facets.get(FACET_TEAM),
+                facets.get(FACET_STADIUM),
+                facets.get(FACET_DATE),
+                facets.get(FACET_GENDER),
+                facets.get(FACET_AGE),
+                facets.get(FACET_MEMBER)
+        );
+    }
+
+    private Map<String, Map<String, Long>> countMateFacetsFromDatabase() {
+        Map<String, Map<String, Long>> facets = new HashMap<>();
+        FACETS.forEach(facet -> facets.put(facet, new TreeMap<>()));
+        matePostRepository.findByGameDateGreaterThanEqual(LocalDate.now()).forEach(post ->
+                getFacetValues(post).forEach((facet, value) -> facets.get(facet).merge(value, 1L, Long::sum)));
+        return facets;
+    }
+
+    private void updateMateFacets(Map<String, String> oldFacetValues, Map<String, String> newFacetValues) {
+        Map<String, String> removed = new HashMap<>();
+        Map<String, String> added = new HashMap<>();
+
+        for (String facet : FACETS) {
+            if (!oldFacetValues.get(facet).equals(newFacetValues.get(facet))) {
+                removed.put(facet, oldFacetValues.get(facet));
+                added.put(facet, newFacetValues.get(facet));
+            }
+        }
+        redisRepository.increaseMateFacets(removed, -1);
+        redisRepository.increaseMateFacets(added, 1);
+    }
+
+    private Map<String, String> getFacetValues(MatePost post) {
+        Map<String, String> facetValues = new HashMap<>();
+        facetValues.put(FACET_TEAM, post.getHomeTeam().toShortKorean());
+        facetValues.put(FACET_STADIUM, post.getGameStadium().toKorean());
+        facetValues.put(FACET_DATE, post.getGameDate().toString());
+        facetValues.put(FACET_GENDER, post.getGender().toKorean());
+        facetValues.put(FACET_AGE, post.getAge().toKorean());
+        facetValues.put(FACET_MEMBER, post.getMember().toString());
+        return facetValues;
+    }
+
     public List<MateDTO.ResponseByDate> getAllPostsSortedByDate(LocalDateTime cursor) {
 
-        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "updatedAt"));
-        List<MatePost> posts;
+        if (!redisRepository.isMateCacheSeeded(CACHE_TIMELINE)) {
+            return getPostsSortedByDateFromDatabase(cursor);
+        }
+
+        return buildLatestPage(redisRepository.findMateTimeline(cursor, PAGE_SIZE));
+    }
+
+    public List<MateDTO.GameBoardGame> getGameBoard(LocalDate gameDate) {
+        List<MateDTO.GameBoardGame> games = redisRepository.findMateBoardGames(gameDate);
+        if (games == null) {
+            games = findGamesOfDay(gameDate).stream()
+                    .map(this::convertToGameBoardGame)
+                    .toList();
+            redisRepository.saveMateBoardGames(gameDate, games, BOARD_GAMES_EXPIRATION_TIME);
+        }
+
+        List<StadiumEnum> stadiums = games.stream()
+                .map(game -> findStadium(game.getStadium()))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<StadiumEnum, Long> counts = redisRepository.isMateCacheSeeded(CACHE_BOARD)
+                ? redisRepository.countMateBoard(gameDate, stadiums)
+                : countOpenPostsFromDatabase(gameDate);
+
+        games.forEach(game -> game.setOpenPostCount(counts.getOrDefault(findStadium(game.getStadium()), 0L)));
+        return games;
+    }
+
+    public List<MateDTO.ResponseByDate> getGamePosts(LocalDate gameDate, String stadium, LocalDateTime cursor) {
+        StadiumEnum gameStadium = StadiumEnum.fromString(stadium);
+        if (!redisRepository.isMateCacheSeeded(CACHE_BOARD)) {
+            return buildLatestPage(findOpenPostIdsFromDatabase(gameDate, gameStadium, cursor));
+        }
+        return buildLatestPage(redisRepository.findMateBoard(gameDate, gameStadium, cursor, PAGE_SIZE));
+    }
+
+    private Map<StadiumEnum, Long> countOpenPostsFromDatabase(LocalDate gameDate) {
+        QMatePost qmatePost = QMatePost.matePost;
+        NumberExpression<Long> postCount = qmatePost.count();
+        Map<StadiumEnum, Long> counts = new HashMap<>();
+        queryFactory.select(qmatePost.gameStadium, postCount)
+                .from(qmatePost)
+                .where(qmatePost.gameDate.eq(gameDate), qmatePost.confirmedMembers.lt(qmatePost.member))
+                .groupBy(qmatePost.gameStadium)
+                .fetch()
+                .forEach(tuple -> counts.put(tuple.get(qmatePost.gameStadium), tuple.get(postCount)));
+        return counts;
+    }
+
+    private List<UUID> findOpenPostIdsFromDatabase(LocalDate gameDate, StadiumEnum stadium, LocalDateTime cursor) {
+        QMatePost qmatePost = QMatePost.matePost;
+        return queryFactory.select(qmatePost.mateId)
+                .from(qmatePost)
+                .where(qmatePost.gameDate.eq(gameDate),
+                        qmatePost.gameStadium.eq(stadium),
+                        qmatePost.confirmedMembers.lt(qmatePost.member),
+                        cursor != null ? qmatePost.updatedAt.lt(cursor) : null)
+                .orderBy(qmatePost.updatedAt.desc())
+                .limit(PAGE_SIZE)
+                .fetch();
+    }
+
+    private StadiumEnum findStadium(String stadium) {
+        try {
+            return StadiumEnum.fromString(stadium);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private List<MateDTO.ResponseByDate> buildLatestPage(List<UUID> mateIds) {
+        Map<UUID, MateDTO.MateCard> cards = findMateCards(mateIds);
+        Map<UUID, MateDTO.ViewCount> viewCounts = redisRepository.findMateViewCounts(mateIds);
+        return mateIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .map(card -> convertToLatestDTO(card, viewCounts.get(card.getMateId())))
+                .toList();
+    }
+
+    private List<MateDTO.ResponseByDate> getPostsSortedByDateFromDatabase(LocalDateTime cursor) {
+
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "updatedAt"));
+        List<MatePostRepository.MateCardView> views;
 
         if (cursor == null) {
-            posts = matePostRepository.findFirst5ByOrderByUpdatedAtDesc(pageable);
+            views = matePostRepository.findCardsBy(pageable);
         } else {
-            posts = matePostRepository.findByUpdatedAtLessThan(cursor, pageable);
+            views = matePostRepository.findCardsByUpdatedAtLessThan(cursor, pageable);
         }
 
-        return posts.stream()
-                .map(this::convertToLatestDTO)
+        Map<UUID, MateDTO.ViewCount> viewCounts = redisRepository.findMateViewCounts(
+                views.stream().map(MatePostRepository.MateCardView::getMateId).toList());
+        return views.stream()
+                .map(this::convertToMateCard)
+                .map(card -> convertToLatestDTO(card, viewCounts.get(card.getMateId())))
                 .toList();
     }
 
     public List<MateDTO.ResponseByRelevance> getAllPostsSortedByRelevance(String cursor, MateDTO.RequestOption matePostOptions) {
 
-        long matchCountCursor = cursor != null ? Long.parseLong(cursor.split("_")[0]) : 6;
-        LocalDateTime updatedAtCursor = cursor != null ? LocalDateTime.parse(cursor.split("_")[1]) : LocalDateTime.now();
+        List<String> pageCursors = findRelevanceCursors(cursor, matePostOptions);
+        return buildCardPage(pageCursors, this::getMateIdFromCursor);
+    }
+
+    private List<MateDTO.ResponseByRelevance> buildCardPage(List<String> pageCursors, Function<String, UUID> mateIdOfCursor) {
+        List<UUID> mateIds = pageCursors.stream().map(mateIdOfCursor).toList();
+        Map<UUID, MateDTO.MateCard> cards = findMateCards(mateIds);
+        Map<UUID, MateDTO.ViewCount> viewCounts = redisRepository.findMateViewCounts(mateIds);
 
-        BooleanBuilder builder = buildConditions(matePostOptions);
+        List<MateDTO.ResponseByRelevance> result = new ArrayList<>();
+        for (String nextCursor : pageCursors) {
+            MateDTO.MateCard card = cards.get(mateIdOfCursor.apply(nextCursor));
+            if (card == null) continue;
 
-        List<MatePost> posts = queryFactory.selectFrom(QMatePost.matePost)
-                .where(builder)
+            result.add(convertToRelevanceDTO(card, nextCursor, viewCounts.get(card.getMateId())));
+        }
+        return result;
+    }
+
+    private Map<UUID, MateDTO.MateCard> findMateCards(List<UUID> mateIds) {
+        Map<UUID, MateDTO.MateCard> cards = redisRepository.findMateCards(mateIds);
+
+        List<UUID> missingIds = mateIds.stream()
+                .filter(mateId -> !cards.containsKey(mateId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            for (MatePostRepository.MateCardView view : matePostRepository.findCardsByMateIdIn(missingIds)) {
+                MateDTO.MateCard card = convertToMateCard(view);
+                redisRepository.saveMateCard(card);
+                cards.put(card.getMateId(), card);
+            }
+        }
+        return cards;
+    }
+
+    public List<MateDTO.ResponseByRelevance> getRecommendedPosts(HttpServletRequest request, HttpServletResponse response, String cursor) {
+        User user = validateUser(request, response);
+        int offset = cursor == null ? 0 : Integer.parseInt(cursor);
+
+        List<UUID> mateIds = redisRepository.findMateRecommendations(user.getUserId(), offset, PAGE_SIZE);
+        Map<UUID, MateDTO.MateCard> cards = redisRepository.findMateCards(mateIds);
+        Map<UUID, MateDTO.ViewCount> viewCounts = redisRepository.findMateViewCounts(mateIds);
+
+        List<MateDTO.ResponseByRelevance> result = new ArrayList<>();
+        for (int i = 0; i < mateIds.size(); i++) {
+            MateDTO.MateCard card = cards.get(mateIds.get(i));
+            if (card == null || card.getConfirmedMembers() >= card.getOptions().getMember()) continue;
+
+            result.add(convertToRelevanceDTO(card, String.valueOf(offset + i + 1), viewCounts.get(card.getMateId())));
+        }
+        return result;
+    }
+
+    public List<MateDTO.ResponseByRelevance> getTrendingPosts(String cursor) {
+        int offset = cursor == null ? 0 : Integer.parseInt(cursor);
+        if (!redisRepository.isMateCacheSeeded(CACHE_TRENDING)) {
+            return getMostViewedPostsFromDatabase(offset);
+        }
+
+        List<UUID> mateIds = redisRepository.findMateTrending(offset, PAGE_SIZE);
+        Map<UUID, MateDTO.MateCard> cards = redisRepository.findMateCards(mateIds);
+        Map<UUID, MateDTO.ViewCount> viewCounts = redisRepository.findMateViewCounts(mateIds);
+
+        List<MateDTO.ResponseByRelevance> result = new ArrayList<>();
+        for (int i = 0; i < mateIds.size(); i++) {
+            MateDTO.MateCard card = cards.get(mateIds.get(i));
+            if (card == null) continue;
+
+            result.add(convertToRelevanceDTO(card, String.valueOf(offset + i + 1), viewCounts.get(card.getMateId())));
+        }
+        return result;
+    }
+
+    private List<MateDTO.ResponseByRelevance> getMostViewedPostsFromDatabase(int offset) {
+        QMatePost qmatePost = QMatePost.matePost;
+        List<UUID> mateIds = queryFactory.select(qmatePost.mateId)
+                .from(qmatePost)
+                .where(qmatePost.gameDate.goe(LocalDate.now()))
+                .orderBy(qmatePost.viewCount.desc(), qmatePost.updatedAt.desc())
+                .offset(offset)
+                .limit(PAGE_SIZE)
                 .fetch();
 
-        Map<MatePost, Long> postCountMap = calculateMatchCounts(posts, matePostOptions);
-        List<Map.Entry<MatePost, Long>> sortedEntries = sortAndFilterEntries(postCountMap, matchCountCursor, updatedAtCursor);
-        return buildPagedResult(sortedEntries);
+        List<String> pageCursors = new ArrayList<>();
+        for (int i = 0; i < mateIds.size(); i++) {
+            pageCursors.add(String.valueOf(offset + i + 1));
+        }
+        return buildCardPage(pageCursors, nextCursor -> mateIds.get(Integer.parseInt(nextCursor) - offset - 1));
+    }
+
+    public List<MateDTO.ResponseByRelevance> searchMatePosts(String keyword, String cursor, MateDTO.RequestOption matePostOptions) {
+
+        List<String> pageCursors = computeRelevanceCursors(cursor, matePostOptions, keyword, PAGE_SIZE);
+        return buildCardPage(pageCursors, this::getMateIdFromCursor);
+    }
+
+    public List<MateDTO.ResponseByRelevance> getAllPostsMatchingAll(String cursor, MateDTO.RequestOption matePostOptions) {
+
+        QMatePost qmatePost = QMatePost.matePost;
+        BooleanBuilder builder = new BooleanBuilder();
+        buildMatchPredicates(matePostOptions).forEach(builder::and);
+
+        if (cursor != null) {
+            String[] parts = cursor.split("_");
+            LocalDateTime updatedAtCursor = LocalDateTime.parse(parts[0]);
+            UUID mateIdCursor = UUID.fromString(parts[1]);
+
+            builder.and(qmatePost.updatedAt.lt(updatedAtCursor)
+                    .or(qmatePost.updatedAt.eq(updatedAtCursor).and(qmatePost.mateId.lt(mateIdCursor))));
+        }
+
+        List<String> pageCursors = queryFactory.select(qmatePost.updatedAt, qmatePost.mateId)
+                .from(qmatePost)
+                .where(builder)
+                .orderBy(qmatePost.updatedAt.desc(), qmatePost.mateId.desc())
+                .limit(PAGE_SIZE)
+                .fetch()
+                .stream()
+                .map(row -> row.get(qmatePost.updatedAt).toString() + "_" + row.get(qmatePost.mateId))
+                .toList();
+
+        return buildCardPage(pageCursors, nextCursor -> UUID.fromString(nextCursor.split("_")[1]));
+    }
+
+    private List<String> findRelevanceCursors(String cursor, MateDTO.RequestOption matePostOptions) {
+
+        String cacheKey = buildRelevanceCacheKey(matePostOptions);
+        List<String> cachedCursors = redisRepository.findRelevanceResult(cacheKey);
+        if (cachedCursors == null) {
+            cachedCursors = computeRelevanceCursors(null, matePostOptions, null, RELEVANCE_CACHE_SIZE);
+            redisRepository.saveRelevanceResult(cacheKey, cachedCursors, RELEVANCE_EXPIRATION_TIME);
+        }
+
+        int from = cursor == null ? 0 : cachedCursors.indexOf(cursor) + 1;
+        boolean isComplete = cachedCursors.size() < RELEVANCE_CACHE_SIZE;
+        boolean isCursorFound = cursor == null || from > 0;
+
+        if (!isCursorFound || (!isComplete && from + PAGE_SIZE > cachedCursors.size())) {
+            return computeRelevanceCursors(cursor, matePostOptions, null, PAGE_SIZE);
+        }
+        return cachedCursors.subList(from, Math.min(from + PAGE_SIZE, cachedCursors.size()));
+    }
+
+    private List<String> computeRelevanceCursors(String cursor, MateDTO.RequestOption matePostOptions, String keyword, int limit) {
+
+        if (matePostIndex.isReady()) {
+            String[] parts = cursor != null ? cursor.split("_") : null;
+            Integer matchCountCursor = parts != null ? Integer.valueOf(parts[0]) : null;
+            LocalDateTime updatedAtCursor = parts != null ? LocalDateTime.parse(parts[1]) : null;
+            UUID mateIdCursor = parts != null && parts.length > 2 ? UUID.fromString(parts[2]) : null;
+
+            return matePostIndex.findByRelevance(matePostOptions, keyword, matchCountCursor, updatedAtCursor, mateIdCursor, limit)
+                    .stream()
+                    .map(match -> buildRelevanceCursor(match.getMatchCount(), match.getUpdatedAt(), match.getMateId()))
+                    .toList();
+        }
+
+        QMatePost qmatePost = QMatePost.matePost;
+        NumberExpression<Integer> matchCount = buildMatchCount(matePostOptions);
+
+        BooleanBuilder builder = keyword != null
+                ? new BooleanBuilder(qmatePost.title.contains(keyword).or(qmatePost.content.contains(keyword)))
+                : buildConditions(matePostOptions);
+        if (cursor != null) {
+            builder.and(buildRelevanceCursorCondition(cursor, matchCount));
+        }
+
+        return queryFactory.select(qmatePost.mateId, matchCount, qmatePost.updatedAt)
+                .from(qmatePost)
+                .where(builder)
+                .orderBy(matchCount.desc(), qmatePost.updatedAt.desc(), qmatePost.mateId.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(row -> buildRelevanceCursor(row.get(matchCount), row.get(qmatePost.updatedAt), row.get(qmatePost.mateId)))
+                .toList();
+    }
+
+    private String buildRelevanceCursor(int matchCount, LocalDateTime updatedAt, UUID mateId) {
+        return matchCount + "_" + updatedAt.toString() + "_" + mateId;
+    }
+
+    private UUID getMateIdFromCursor(String cursor) {
+        return UUID.fromString(cursor.split("_")[2]);
+    }
+
+    private String buildRelevanceCacheKey(MateDTO.RequestOption matePostOptions) {
+        List<String> tokens = buildRelevanceTokens(
+                matePostOptions.getDate(),
+                matePostOptions.getGender() != null ? GenderEnum.fromKorean(matePostOptions.getGender()) : null,
+                matePostOptions.getAge() != null ? AgeRangeEnum.fromString(matePostOptions.getAge()) : null,
+                matePostOptions.getTeam() != null ? TeamEnum.fromString(matePostOptions.getTeam()) : null,
+                matePostOptions.getStadium() != null ? StadiumEnum.fromString(matePostOptions.getStadium()) : null,
+                matePostOptions.getMember());
+        if (tokens.isEmpty()) {
+            tokens = List.of(RELEVANCE_ALL_TOKEN);
+        }
+
+        List<String> versions = redisRepository.findMateVersions(tokens);
+        return String.join("|", tokens) + "@" + String.join(".", versions);
+    }
+
+    private void increaseMateVersionsAfterCommit(Set<String> relevanceTokens, LocalDate gameDate) {
+        LocalDateTime expiresAt = gameDate.plusDays(2).atStartOfDay();
+        runAfterCommit(() -> redisRepository.increaseMateVersions(relevanceTokens, expiresAt));
+    }
+
+    private void reserveUniqueContent(MatePost post, LocalDate oldGameDate, String oldContent) {
+        if (!mateDuplicateIndex.indexIfUnique(post)) {
+            throw new PostException(PostErrorResult.DUPLICATE_MATE_POST);
+        }
+
+        UUID mateId = post.getMateId();
+        UUID userId = post.getUser().getUserId();
+        runAfterRollback(() -> {
+            if (oldContent != null) {
+                mateDuplicateIndex.index(mateId, userId, oldGameDate, oldContent);
+            } else {
+                mateDuplicateIndex.remove(mateId);
+            }
+        });
+    }
+
+    private void runAfterRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    task.run();
+                }
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private Set<String> getRelevanceTokens(MatePost post) {
+        Set<String> tokens = new HashSet<>(buildRelevanceTokens(post.getGameDate(), post.getGender(), post.getAge(),
+                post.getHomeTeam(), post.getGameStadium(), post.getMember()));
+        tokens.add(RELEVANCE_ALL_TOKEN);
+        return tokens;
+    }
+
+    private List<String> buildRelevanceTokens(LocalDate date, GenderEnum gender, AgeRangeEnum age,
+                                              TeamEnum team, StadiumEnum stadium, Integer member) {
+        List<String> tokens = new ArrayList<>();
+        if (date != null) tokens.add("date:" + date);
+        if (gender != null) tokens.add("gender:" + gender.name());
+        if (age != null) tokens.add("age:" + age.name());
+        if (team != null) tokens.add("team:" + team.name());
+        if (stadium != null) tokens.add("stadium:" + stadium.name());
+        if (member != null) tokens.add("member:" + member);
+        return tokens;
     }
 
     private BooleanBuilder buildConditions(MateDTO.RequestOption matePostOptions) {
         BooleanBuilder builder = new BooleanBuilder();
+        buildMatchPredicates(matePostOptions).forEach(builder::or);
+        return builder;
+    }
+
+    private List<BooleanExpression> buildMatchPredicates(MateDTO.RequestOption matePostOptions) {
         QMatePost qmatePost = QMatePost.matePost;
+        List<BooleanExpression> predicates = new ArrayList<>();
 
         if (matePostOptions.getDate() != null) {
-            builder.or(qmatePost.gameDate.eq(matePostOptions.getDate()));
+            predicates.add(qmatePost.gameDate.eq(matePostOptions.getDate()));
         }
         if (matePostOptions.getGender() != null) {
-            builder.or(qmatePost.gender.eq(GenderEnum.fromKorean(matePostOptions.getGender())));
+            predicates.add(qmatePost.gender.eq(GenderEnum.fromKorean(matePostOptions.getGender())));
         }
         if (matePostOptions.getAge() != null) {
-            builder.or(qmatePost.age.eq(AgeRangeEnum.fromString(matePostOptions.getAge())));
+            predicates.add(qmatePost.age.eq(AgeRangeEnum.fromString(matePostOptions.getAge())));
         }
         if (matePostOptions.getTeam() != null) {
-            builder.or(qmatePost.homeTeam.eq(TeamEnum.fromString(matePostOptions.getTeam())));
+            predicates.add(qmatePost.homeTeam.eq(TeamEnum.fromString(matePostOptions.getTeam())));
         }
         if (matePostOptions.getStadium() != null) {
-            builder.or(qmatePost.gameStadium.eq(StadiumEnum.fromString(matePostOptions.getStadium())));
+            predicates.add(qmatePost.gameStadium.eq(StadiumEnum.fromString(matePostOptions.getStadium())));
         }
         if (matePostOptions.getMember() != null) {
-            builder.or(qmatePost.member.eq(matePostOptions.getMember()));
+            predicates.add(qmatePost.member.eq(matePostOptions.getMember()));
         }
 
-        return builder;
+        return predicates;
     }
 
-    private Map<MatePost, Long> calculateMatchCounts(List<MatePost> posts, MateDTO.RequestOption matePostOptions) {
-        return posts.stream()
-                .collect(Collectors.toMap(
-                        post -> post,
-                        post -> {
-                            long count = 0;
-                            if (matePostOptions.getDate() != null && post.getGameDate().equals(matePostOptions.getDate())) count++;
-                            if (matePostOptions.getGender() != null && post.getGender().equals(GenderEnum.fromKorean(matePostOptions.getGender()))) count++;
-                            if (matePostOptions.getAge() != null && post.getAge().equals(AgeRangeEnum.fromString(matePostOptions.getAge()))) count++;
-                            if (matePostOptions.getTeam() != null && post.getHomeTeam().equals(TeamEnum.fromString(matePostOptions.getTeam()))) count++;
-                            if (matePostOptions.getStadium() != null && post.getGameStadium().equals(StadiumEnum.fromString(matePostOptions.getStadium()))) count++;
-                            if (matePostOptions.getMember() != null && post.getMember().equals(matePostOptions.getMember())) count++;
-                            return count;
-                        }
-                ));
-    }
-
-    private List<Map.Entry<MatePost, Long>> sortAndFilterEntries(Map<MatePost, Long> postCountMap, long matchCountCursor, LocalDateTime updatedAtCursor) {
-        return postCountMap.entrySet().stream()
-                .filter(entry -> {
-                    long matchCount = entry.getValue();
-                    LocalDateTime updatedAt = entry.getKey().getUpdatedAt();
-                    return (matchCount < matchCountCursor) ||
-                            (matchCount == matchCountCursor && updatedAt.isBefore(updatedAtCursor));
-                })
-                .sorted(Comparator.comparingLong(Map.Entry<MatePost, Long>::getValue).reversed()
-                        .thenComparing(entry -> entry.getKey().getUpdatedAt(), Comparator.reverseOrder()))
-                .collect(Collectors.toList());
-    }
-
-    private List<MateDTO.ResponseByRelevance> buildPagedResult(List<Map.Entry<MatePost, Long>> sortedEntries) {
-        List<MateDTO.ResponseByRelevance> result = new ArrayList<>();
-        String nextCursor = null;
+    private NumberExpression<Integer> buildMatchCount(MateDTO.RequestOption matePostOptions) {
+        NumberExpression<Integer> matchCount = Expressions.asNumber(0);
+        for (BooleanExpression predicate : buildMatchPredicates(matePostOptions)) {
+            matchCount = matchCount.add(new CaseBuilder().when(predicate).then(1).otherwise(0));
+        }
+        return matchCount;
+    }
 
-        for (int i = 0; i < sortedEntries.size(); i++) {
-            Map.Entry<MatePost, Long> entry = sortedEntries.get(i);
-            MatePost post = entry.getKey();
+    private BooleanExpression buildRelevanceCursorCondition(String cursor, NumberExpression<Integer> matchCount) {
+        QMatePost qmatePost = QMatePost.matePost;
+        String[] parts = cursor.split("_");
 
-            long matchCount = entry.getValue();
-            LocalDateTime updatedAt = post.getUpdatedAt();
-            nextCursor = matchCount + "_" + updatedAt.toString();
+        int matchCountCursor = Integer.parseInt(parts[0]);
+        LocalDateTime updatedAtCursor = LocalDateTime.parse(parts[1]);
 
-            result.add(convertToRelevanceDTO(post, nextCursor));
-            if (result.size() == 5) break;
+        BooleanExpression sameMatchCount = matchCount.eq(matchCountCursor);
+        BooleanExpression olderUpdate = qmatePost.updatedAt.lt(updatedAtCursor);
+        if (parts.length > 2) {
+            olderUpdate = olderUpdate.or(qmatePost.updatedAt.eq(updatedAtCursor)
+                    .and(qmatePost.mateId.lt(UUID.fromString(parts[2]))));
         }
 
-        return result;
+        return matchCount.lt(matchCountCursor).or(sameMatchCount.and(olderUpdate));
     }
 
-    private MateDTO.ResponseByDate convertToLatestDTO(MatePost post) {
-
-        LocalDate gameDate = post.getGameDate();
-        String formattedGameDate = String.format("%02d-%02d", gameDate.getMonthValue(), gameDate.getDayOfMonth());
-
-        String homeTeam = post.getHomeTeam().toKorean();
-        String firstWordOfHomeTeam = homeTeam.split(" ")[0];
-
-        return new MateDTO.ResponseByDate(
+    private MateDTO.MateCard convertToMateCard(MatePost post) {
+        return new MateDTO.MateCard(
                 post.getMateId(),
                 post.getTitle(),
                 post.getContent(),
-                post.getDaysSinceWritten(),
-                post.getDaysUntilGame(),
+                post.getGameDate(),
                 post.getConfirmedMembers(),
                 post.getUpdatedAt(),
-                new MateDTO.ResponseOption(
-                        post.getGender().toKorean(),
-                        post.getAge().toKorean(),
-                        formattedGameDate,
-                        firstWordOfHomeTeam,
-                        post.getMember(),
-                        post.getGameStadium().toKorean()
-                )
+                convertToResponseOption(post.getGender(), post.getAge(), post.getGameDate(),
+                        post.getHomeTeam(), post.getMember(), post.getGameStadium())
+        );
+    }
+
+    private MateDTO.MateCard convertToMateCard(MatePostRepository.MateCardView view) {
+        return new MateDTO.MateCard(
+                view.getMateId(),
+                view.getTitle(),
+                view.getContent(),
+                view.getGameDate(),
+                view.getConfirmedMembers(),
+                view.getUpdatedAt(),
+                convertToResponseOption(view.getGender(), view.getAge(), view.getGameDate(),
+                        view.getHomeTeam(), view.getMember(), view.getGameStadium())
+        );
+    }
+
+    private MateDTO.ResponseOption convertToResponseOption(GenderEnum gender, AgeRangeEnum age, LocalDate gameDate,
+                                                           TeamEnum homeTeam, Integer member, StadiumEnum gameStadium) {
+        return new MateDTO.ResponseOption(
+                gender.toKorean(),
+                age.toKorean(),
+                gameDate.format(GAME_DATE_FORMATTER),
+                homeTeam.toShortKorean(),
+                member,
+                gameStadium.toKorean()
+        );
+    }
+
+    private MateDTO.GameBoardGame convertToGameBoardGame(TeamSchedule game) {
+        return new MateDTO.GameBoardGame(
+                game.getHomeTeam(),
+                game.getAwayTeam(),
+                game.getHomeImg(),
+                game.getAwayImg(),
+                game.getGameTime(),
+                game.getStadium(),
+                game.getCancellationReason(),
+                null
+        );
+    }
+
+    private MateDTO.ResponseByDate convertToLatestDTO(MateDTO.MateCard card, MateDTO.ViewCount viewCount) {
+
+        LocalDate today = LocalDate.now();
+
+        return new MateDTO.ResponseByDate(
+                card.getMateId(),
+                card.getTitle(),
+                card.getContent(),
+                (int) ChronoUnit.DAYS.between(card.getUpdatedAt().toLocalDate(), today),
+                (int) ChronoUnit.DAYS.between(today, card.getGameDate()),
+                card.getConfirmedMembers(),
+                viewCount.getViewCount(),
+                viewCount.getUniqueViewerCount(),
+                card.getUpdatedAt(),
+                card.getOptions()
         );
     }
 
-    private MateDTO.ResponseByRelevance convertToRelevanceDTO(MatePost post, String nextCursor) {
+    private MateDTO.ResponseDetail convertToDetailDTO(MateDTO.MateDetail detail, MateDTO.ViewCount viewCount) {
 
-        LocalDate gameDate = post.getGameDate();
-        String formattedGameDate = String.format("%02d-%02d", gameDate.getMonthValue(), gameDate.getDayOfMonth());
+        LocalDate today = LocalDate.now();
+        MateDTO.MateCard card = detail.getCard();
 
-        String homeTeam = post.getHomeTeam().toKorean();
-        String firstWordOfHomeTeam = homeTeam.split(" ")[0];
+        return new MateDTO.ResponseDetail(
+                card.getMateId(),
+                card.getTitle(),
+                card.getContent(),
+                detail.getNickName(),
+                detail.getApplicantCount(),
+                (int) ChronoUnit.DAYS.between(card.getUpdatedAt().toLocalDate(), today),
+                (int) ChronoUnit.DAYS.between(today, card.getGameDate()),
+                card.getConfirmedMembers(),
+                viewCount.getViewCount(),
+                viewCount.getUniqueViewerCount(),
+                card.getUpdatedAt(),
+                card.getOptions()
+        );
+    }
+
+    private MateDTO.ResponseByRelevance convertToRelevanceDTO(MateDTO.MateCard card, String nextCursor, MateDTO.ViewCount viewCount) {
+
+        LocalDate today = LocalDate.now();
 
         return new MateDTO.ResponseByRelevance(
-                post.getMateId(),
-                post.getTitle(),
-                post.getContent(),
-                post.getDaysSinceWritten(),
-                post.getDaysUntilGame(),
-                post.getConfirmedMembers(),
+                card.getMateId(),
+                card.getTitle(),
+                card.getContent(),
+                (int) ChronoUnit.DAYS.between(card.getUpdatedAt().toLocalDate(), today),
+                (int) ChronoUnit.DAYS.between(today, card.getGameDate()),
+                card.getConfirmedMembers(),
+                viewCount.getViewCount(),
+                viewCount.getUniqueViewerCount(),
                 nextCursor,
-                new MateDTO.ResponseOption(
-                        post.getGender().toKorean(),
-                        post.getAge().toKorean(),
-                        formattedGameDate,
-                        firstWordOfHomeTeam,
-                        post.getMember(),
-                        post.getGameStadium().toKorean()
-                )
+                card.getOptions()
         );
     }
 
@@ -286,17 +974,19 @@ public class MateService {
             throw new PostException(PostErrorResult.FORBIDDEN_OWN_POST);
         }
 
-        boolean alreadyApplied = mateRequestRepository.existsByApplicantAndMatePost(applicant, existingMatePost);
-        if (alreadyApplied) {
-            throw new PostException(PostErrorResult.ALREADY_APPLIED);
-        }
-
-        if (existingMatePost.getConfirmedMembers().equals(existingMatePost.getMember())) {
+        if (existingMatePost.getConfirmedMembers() >= existingMatePost.getMember()) {
             throw new PostException(PostErrorResult.RECRUITMENT_COMPLETED);
         }
 
         MateRequest savedRequest = registerRequest(applicant, existingMatePost);
-        mateRequestRepository.save(savedRequest);
+        try {
+            mateRequestRepository.saveAndFlush(savedRequest);
+        } catch (DataIntegrityViolationException e) {
+            throw new PostException(PostErrorResult.ALREADY_APPLIED);
+        }
+        refreshMateDetail(mateId);
+        runAfterCommit(() -> mateTrendingRanker.recordApply(mateId));
+        mateInboxService.notifyApplied(savedRequest);
     }
 
     private MateRequest registerRequest(User applicant, MatePost matePost) {
@@ -308,19 +998,118 @@ public class MateService {
                 .build();
     }
 
+    private List<TeamSchedule> findGamesOfDay(LocalDate gameDate) {
+        String month = String.format("%d.%02d", gameDate.getYear(), gameDate.getMonthValue());
+        String day = String.format("%02d.%02d", gameDate.getMonthValue(), gameDate.getDayOfMonth());
+        return teamScheduleRepository.findByDateAndSpecificDateStartingWith(month, day);
+    }
+
+    private void scheduleMateExpiry(MatePost post, List<TeamSchedule> gamesOfDay) {
+        redisRepository.saveMateExpiry(post.getMateId(), resolveGameStartTime(post, gamesOfDay));
+    }
+
+    private boolean isGameStarted(MatePost post) {
+        return !resolveGameStartTime(post, findGamesOfDay(post.getGameDate())).isAfter(LocalDateTime.now());
+    }
+
+    private LocalDateTime resolveGameStartTime(MatePost post, List<TeamSchedule> gamesOfDay) {
+        String team = post.getHomeTeam().toShortKorean();
+        String stadium = post.getGameStadium().toKorean();
+
+        return gamesOfDay.stream()
+                .filter(game -> team.equals(game.getHomeTeam()) || team.equals(game.getAwayTeam())
+                        || stadium.equals(game.getStadium()))
+                .map(game -> parseGameTime(post.getGameDate(), game.getGameTime()))
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(post.getGameDate().plusDays(1).atStartOfDay());
+    }
+
+    private LocalDateTime parseGameTime(LocalDate gameDate, String gameTime) {
+        try {
+            return gameDate.atTime(LocalTime.parse(gameTime));
+        } catch (DateTimeParseException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void drainMateExpiryQueue() {
+        redisRepository.runExclusively(MATE_EXPIRY_LOCK, 0, this::closeStartedMatePosts);
+    }
+
+    private void closeStartedMatePosts() {
+        List<UUID> dueIds = redisRepository.claimDueMateExpiries(LocalDateTime.now(), EXPIRY_CHUNK_SIZE);
+        if (dueIds.isEmpty()) {
+            return;
+        }
+
+        List<MatePost> startedPosts = matePostRepository.findAllById(dueIds);
+        evictMatePosts(startedPosts);
+
+        logger.info("Closed {} mate posts whose game has started.", startedPosts.size());
+    }
+
     @Scheduled(cron = "0 0 0 * * ?")
     public void deleteMatePosts() {
-        List<MatePost> expiredPosts = matePostRepository.findByGameDateBefore(LocalDate.now());
-        deleteMateRequests(expiredPosts);
-        matePostRepository.deleteAll(expiredPosts);
+        LocalDate today = LocalDate.now();
+        UUID lastMateId = new UUID(0L, 0L);
+        int deletedPosts = 0;
+        int deletedRequests = 0;
+        int failedPosts = 0;
 
-        logger.info("Deleted {} expired posts.", expiredPosts.size());
+        while (true) {
+            List<UUID> expiredIds = matePostRepository.findExpiredMateIds(today, lastMateId, PageRequest.of(0, EXPIRY_CHUNK_SIZE));
+            if (expiredIds.isEmpty()) {
+                break;
+            }
+
+            try {
+                deletedRequests += deleteExpiredMatePosts(expiredIds);
+                deletedPosts += expiredIds.size();
+            } catch (RuntimeException e) {
+                failedPosts += expiredIds.size();
+                logger.error("Failed to delete {} expired mate posts after {}. Error: {}", expiredIds.size(), lastMateId, e.getMessage(), e);
+            }
+            lastMateId = expiredIds.get(expiredIds.size() - 1);
+            logger.info("Expiring mate posts... {} posts and {} requests deleted so far.", deletedPosts, deletedRequests);
+        }
+        redisRepository.deleteEmptyMateFacets(FACETS);
+
+        logger.info("Deleted {} expired posts and {} mate requests ({} posts failed).", deletedPosts, deletedRequests, failedPosts);
+    }
+
+    private int deleteExpiredMatePosts(List<UUID> mateIds) {
+        AtomicInteger removedRequests = new AtomicInteger();
+        boolean locked = redisRepository.runExclusively(MATE_EXPIRY_LOCK, MATE_EXPIRY_LOCK_WAIT_MILLIS,
+                () -> removedRequests.set(purgeMatePosts(mateIds)));
+        if (!locked) {
+            throw new IllegalStateException("Could not acquire the mate expiry lock.");
+        }
+        return removedRequests.get();
     }
 
-    public void deleteMateRequests(List<MatePost> expiredPosts) {
-        for (MatePost post : expiredPosts) {
-            List<MateRequest> requests = mateRequestRepository.findByMatePost(post);
-            mateRequestRepository.deleteAll(requests);
+    private int purgeMatePosts(List<UUID> mateIds) {
+        List<UUID> undrainedIds = redisRepository.claimMateExpiries(mateIds);
+        List<MatePost> undrainedPosts = new ArrayList<>();
+        Integer removedRequests;
+        try {
+            removedRequests = transactionTemplate.execute(status -> {
+                undrainedPosts.addAll(matePostRepository.findAllById(undrainedIds));
+                int removed = mateRequestRepository.deleteAllByMatePostIds(mateIds);
+                matePostRepository.deleteAllByMateIds(mateIds);
+                return removed;
+            });
+        } catch (RuntimeException e) {
+            LocalDateTime now = LocalDateTime.now();
+            undrainedIds.forEach(mateId -> redisRepository.saveMateExpiry(mateId, now));
+            throw e;
         }
+
+        evictMatePosts(undrainedPosts);
+        Set<UUID> evictedIds = new HashSet<>(undrainedPosts.stream().map(MatePost::getMateId).toList());
+        evictMatePostIds(mateIds.stream().filter(mateId -> !evictedIds.contains(mateId)).toList());
+
+        return removedRequests != null ? removedRequests : 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package com.boot.gugi.service;
+
+import java.util.*;
+
+class MateTextIndex {
+
+    private static final int INITIAL_POSTING_SIZE = 4;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Integer, String[]> textsBySlot = new HashMap<>();
+
+    private static class PostingList {
+        private int[] slots = new int[INITIAL_POSTING_SIZE];
+        private int size = 0;
+
+        private void add(int slot) {
+            int position = Arrays.binarySearch(slots, 0, size, slot);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            size++;
+        }
+
+        private void remove(int slot) {
+            int position = Arrays.binarySearch(slots, 0, size, slot);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+            size--;
+        }
+
+        private boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+
+        StringBuilder word = new StringBuilder();
+        String normalized = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+                continue;
+            }
+            if (word.length() == 1) {
+                grams.add(word.toString());
+            }
+            for (int j = 0; j + 2 <= word.length(); j++) {
+                grams.add(word.substring(j, j + 2));
+            }
+            word.setLength(0);
+        }
+        return grams;
+    }
+
+    private static Set<String> indexGrams(String text) {
+        Set<String> grams = tokenize(text);
+        if (text == null) {
+            return grams;
+        }
+
+        text.toLowerCase(Locale.ROOT).chars()
+                .filter(Character::isLetterOrDigit)
+                .forEach(c -> grams.add(String.valueOf((char) c)));
+        return grams;
+    }
+
+    private static Set<String> indexGrams(String[] texts) {
+        Set<String> grams = new HashSet<>();
+        for (String text : texts) {
+            grams.addAll(indexGrams(text));
+        }
+        return grams;
+    }
+
+    void add(int slot, String... texts) {
+        String[] normalized = Arrays.stream(texts)
+                .map(text -> text != null ? text.toLowerCase(Locale.ROOT) : "")
+                .toArray(String[]::new);
+        for (String gram : indexGrams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(slot);
+        }
+        textsBySlot.put(slot, normalized);
+    }
+
+    void remove(int slot) {
+        String[] texts = textsBySlot.remove(slot);
+        if (texts == null) {
+            return;
+        }
+        for (String gram : indexGrams(texts)) {
+            PostingList posting = postings.get(gram);
+            if (posting == null) continue;
+
+            posting.remove(slot);
+            if (posting.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    BitSet search(String keyword) {
+        BitSet result = new BitSet();
+        String phrase = keyword.toLowerCase(Locale.ROOT);
+        List<PostingList> lists = new ArrayList<>();
+        for (String gram : tokenize(keyword)) {
+            PostingList posting = postings.get(gram);
+            if (posting == null) {
+                return result;
+            }
+            lists.add(posting);
+        }
+        if (lists.isEmpty()) {
+            return result;
+        }
+
+        lists.sort(Comparator.comparingInt(posting -> posting.size));
+        PostingList shortest = lists.get(0);
+        for (int i = 0; i < shortest.size; i++) {
+            int slot = shortest.slots[i];
+            boolean matchesAll = true;
+            for (int j = 1; j < lists.size() && matchesAll; j++) {
+                matchesAll = lists.get(j).contains(slot);
+            }
+            if (matchesAll && containsPhrase(textsBySlot.get(slot), phrase)) {
+                result.set(slot);
+            }
+        }
+        return result;
+    }
+
+    private boolean containsPhrase(String[] texts, String phrase) {
+        if (texts == null) {
+            return false;
+        }
+        for (String text : texts) {
+            if (text.contains(phrase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void clear() {
+        postings.clear();
+        textsBySlot.clear();
+    }
+}
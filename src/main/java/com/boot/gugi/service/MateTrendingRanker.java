@@ -0,0 +1,46 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.repository.RedisRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class MateTrendingRanker {
+
+    private static final double CREATE_WEIGHT = 1.0;
+    private static final double APPLY_WEIGHT = 3.0;
+    private static final double VIEW_WEIGHT = 0.2;
+    private static final double DECAY_MILLIS = 12 * 60 * 60 * 1000.0;
+
+    private final RedisRepository redisRepository;
+
+    public void recordCreated(MatePost post) {
+        LocalDateTime createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now();
+        redisRepository.increaseMateTrending(Map.of(post.getMateId(), Math.log(CREATE_WEIGHT)), toMillis(createdAt), DECAY_MILLIS, true);
+    }
+
+    public void recordApply(UUID mateId) {
+        redisRepository.increaseMateTrending(Map.of(mateId, Math.log(APPLY_WEIGHT)), System.currentTimeMillis(), DECAY_MILLIS, false);
+    }
+
+    public void recordViews(Map<UUID, Long> views) {
+        Map<UUID, Double> logWeights = new HashMap<>();
+        views.forEach((mateId, count) -> logWeights.put(mateId, Math.log(VIEW_WEIGHT * count)));
+        redisRepository.increaseMateTrending(logWeights, System.currentTimeMillis(), DECAY_MILLIS, false);
+    }
+
+    public void seed(List<MatePost> livePosts) {
+        redisRepository.clearMateTrending();
+        livePosts.forEach(this::recordCreated);
+    }
+
+    private long toMillis(LocalDateTime at) {
+        return at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,127 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.model.MateViewFlush;
+import com.boot.gugi.repository.MatePostRepository;
+import com.boot.gugi.repository.MateViewFlushRepository;
+import com.boot.gugi.repository.RedisRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@RequiredArgsConstructor
+public class MateViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MateViewCounter.class);
+    private static final String VIEW_FLUSH_LOCK = "mateViewFlushLock";
+    private static final int FLUSH_RETENTION_DAYS = 7;
+
+    private final RedisRepository redisRepository;
+    private final MatePostRepository matePostRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MateTrendingRanker mateTrendingRanker;
+    private final MateViewFlushRepository mateViewFlushRepository;
+
+    private final Map<UUID, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> pendingViewers = new ConcurrentHashMap<>();
+
+    @Value("${mate.view.viewer-salt:gugi-mate-viewer}")
+    private String VIEWER_SALT;
+
+    public void record(UUID mateId, UUID userId, String remoteAddr) {
+        pendingViews.computeIfAbsent(mateId, key -> new LongAdder()).increment();
+        pendingViewers.computeIfAbsent(mateId, key -> ConcurrentHashMap.newKeySet()).add(viewerKeyOf(userId, remoteAddr));
+    }
+
+    private String viewerKeyOf(UUID userId, String remoteAddr) {
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest((VIEWER_SALT + remoteAddr).getBytes(StandardCharsets.UTF_8));
+            return "addr:" + HexFormat.of().formatHex(hashed, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    public void forget(Collection<UUID> mateIds) {
+        mateIds.forEach(mateId -> {
+            pendingViews.remove(mateId);
+            pendingViewers.remove(mateId);
+        });
+    }
+
+    @Scheduled(fixedDelay = 5000)
+    public void flushToRedis() {
+        Map<UUID, Long> views = new HashMap<>();
+        pendingViews.forEach((mateId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                views.put(mateId, count);
+            }
+        });
+
+        Map<UUID, Set<String>> viewers = new HashMap<>();
+        for (UUID mateId : pendingViewers.keySet()) {
+            Set<String> viewerKeys = pendingViewers.remove(mateId);
+            if (viewerKeys != null && !viewerKeys.isEmpty()) {
+                viewers.put(mateId, viewerKeys);
+            }
+        }
+
+        redisRepository.increaseMateViews(views, viewers);
+        mateTrendingRanker.recordViews(views);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void flushToDatabase() {
+        redisRepository.runExclusively(VIEW_FLUSH_LOCK, 0, this::applyViewFlush);
+    }
+
+    @Scheduled(cron = "0 30 0 * * ?")
+    public void purgeViewFlushes() {
+        int purged = mateViewFlushRepository.deleteAllAppliedBefore(LocalDateTime.now().minusDays(FLUSH_RETENTION_DAYS));
+        logger.info("Purged {} applied mate view flushes.", purged);
+    }
+
+    private void applyViewFlush() {
+        UUID flushId = redisRepository.claimMateViewFlush();
+        if (flushId == null) {
+            return;
+        }
+
+        Map<UUID, Long> deltas = redisRepository.findMateViewFlush(flushId);
+        Map<Long, List<UUID>> mateIdsByDelta = new HashMap<>();
+        deltas.forEach((mateId, delta) -> mateIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(mateId));
+
+        Boolean applied = transactionTemplate.execute(status -> {
+            if (mateViewFlushRepository.existsById(flushId)) {
+                return false;
+            }
+            mateIdsByDelta.forEach((delta, mateIds) -> matePostRepository.increaseViewCounts(mateIds, delta));
+            mateViewFlushRepository.save(MateViewFlush.builder().flushId(flushId).appliedAt(LocalDateTime.now()).build());
+            return true;
+        });
+        redisRepository.completeMateViewFlush(flushId);
+
+        if (Boolean.TRUE.equals(applied)) {
+            logger.info("Flushed view counts of {} mate posts in {} statements.", deltas.size(), mateIdsByDelta.size());
+        } else {
+            logger.warn("Skipped mate view flush {} that was already applied.", flushId);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.boot.gugi.service;
 
+import com.boot.gugi.base.Enum.AgeRangeEnum;
 import com.boot.gugi.base.Enum.ApplicationStatusEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
 import com.boot.gugi.base.dto.MateDTO;
 import com.boot.gugi.base.dto.MatePostStatusDTO;
 import com.boot.gugi.exception.PostErrorResult;
@@ -9,6 +12,10 @@ import com.boot.gugi.exception.UserErrorResult;
 import com.boot.gugi.exception.UserException;
 import com.boot.gugi.model.MatePost;
 import com.boot.gugi.model.MateRequest;
+import com.boot.gugi.model.QMatePost;
+import com.boot.gugi.model.QMateRequest;
+import com.boot.gugi.model.QUser;
+import com.boot.gugi.model.QUserOnboardingInfo;
 import com.boot.gugi.model.User;
 import com.boot.gugi.model.UserOnboardingInfo;
 import com.boot.gugi.repository.MatePostRepository;
@@ -16,27 +23,61 @@ import com.boot.gugi.repository.MateRequestRepository;
 import com.boot.gugi.repository.UserOnboardingInfoRepository;
 import com.boot.gugi.repository.UserRepository;
 import com.boot.gugi.token.service.TokenServiceImpl;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MyPageService {
 
+    private static final int APPLICANT_PAGE_SIZE = 10;
+    private static final int SUMMARY_PAGE_SIZE = 10;
+    private static final int GENDER_WEIGHT = 3;
+    private static final int AGE_WEIGHT = 3;
+    private static final int TEAM_WEIGHT = 2;
+    private static final int OWNER_TEAM_WEIGHT = 1;
+    private static final int OWNER_AGE_WEIGHT = 1;
+    private static final Comparator<RankedApplicant> APPLICANT_ORDER = Comparator
+            .comparing(RankedApplicant::getCompatibility, Comparator.reverseOrder())
+            .thenComparing(RankedApplicant::getAppliedAt)
+            .thenComparing(RankedApplicant::getRequestId);
+
     private final TokenServiceImpl tokenServiceImpl;
     private final UserRepository userRepository;
     private final UserOnboardingInfoRepository userOnboardingInfoRepository;
     private final MateRequestRepository mateRequestRepository;
     private final MatePostRepository matePostRepository;
+    private final MateService mateService;
+    private final JPAQueryFactory queryFactory;
+    private final MateInboxService mateInboxService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Getter
+    @AllArgsConstructor
+    private static class RankedApplicant {
+        private int compatibility;
+        private LocalDateTime appliedAt;
+        private UUID requestId;
+        private MateRequestRepository.ApplicantView applicant;
+    }
 
     @Transactional
     public void respondToMateRequest(HttpServletRequest request, HttpServletResponse response, UUID requestId, String status) {
@@ -55,108 +96,246 @@ public class MyPageService {
         }
 
         ApplicationStatusEnum newStatus = ApplicationStatusEnum.fromKorean(status);
-        if (newStatus == ApplicationStatusEnum.ACCEPTED) {
-            MatePost matePost = mateRequest.getMatePost();
-            Integer confirmedMembers = matePost.getConfirmedMembers();
-            Integer totalMembers = matePost.getMember();
+        UUID mateId = mateRequest.getMatePost().getMateId();
+
+        int respondedRows = mateRequestRepository.updateStatus(requestId, ApplicationStatusEnum.PENDING, newStatus);
+        if (respondedRows == 0) {
+            throw new PostException(PostErrorResult.ALREADY_RESPONDED);
+        }
 
-            if (confirmedMembers >= totalMembers) {
+        if (newStatus == ApplicationStatusEnum.ACCEPTED) {
+            int acceptedRows = matePostRepository.increaseConfirmedMembers(mateId);
+            if (acceptedRows == 0) {
                 throw new PostException(PostErrorResult.MAX_MEMBERS_REACHED);
             }
-            matePost.setConfirmedMembers(confirmedMembers + 1);
+            matePostRepository.findById(mateId).ifPresent(post -> {
+                mateService.syncMatePost(post);
+                eventPublisher.publishEvent(new MateDTO.MateMembersChangedEvent(post));
+            });
+        } else {
+            mateService.refreshMateDetail(mateId);
         }
-
-        mateRequest.setStatus(ApplicationStatusEnum.fromKorean(status));
-        mateRequestRepository.save(mateRequest);
+        mateInboxService.notifyResponded(mateRequest, newStatus);
     }
 
     @Transactional(readOnly = true)
-    public MatePostStatusDTO.MateRequestSummaryDTO getMateRequestSummary(HttpServletRequest request, HttpServletResponse response) {
+    public MatePostStatusDTO.MateRequestSummaryDTO getMateRequestSummary(HttpServletRequest request, HttpServletResponse response,
+                                                                         String notificationCursor, String pendingCursor,
+                                                                         String acceptedCursor, String rejectedCursor) {
         UUID userId = tokenServiceImpl.getUserIdFromAccessToken(request, response);
         User user = userRepository.findByUserId(userId)
                 .orElseThrow(() -> new UserException(UserErrorResult.NOT_FOUND_USER));
 
-        List<MatePostStatusDTO.AppliedRequestNotificationDTO> notificationList = new ArrayList<>();
-        List<MatePostStatusDTO.RequestedPostStatusDTO> pendingList = new ArrayList<>();
-        List<MatePostStatusDTO.AcceptedPostStatusDTO> acceptedList = new ArrayList<>();
-        List<MatePostStatusDTO.RequestedPostStatusDTO> rejectedList = new ArrayList<>();
+        QMatePost qmatePost = QMatePost.matePost;
+        List<Tuple> notifications = findPendingNotifications(user.getUserId(), notificationCursor);
+        List<MatePost> pendingPosts = findSummaryPosts(user.getUserId(), ApplicationStatusEnum.PENDING, qmatePost.confirmedMembers.eq(1), pendingCursor);
+        List<MatePost> acceptedPosts = findSummaryPosts(user.getUserId(), ApplicationStatusEnum.ACCEPTED, qmatePost.confirmedMembers.goe(2), acceptedCursor);
+        List<MatePost> rejectedPosts = findSummaryPosts(user.getUserId(), ApplicationStatusEnum.REJECTED, null, rejectedCursor);
 
-        List<MateRequest> mateRequests = mateRequestRepository.findAllByApplicant(user);
-        processMateRequests(mateRequests, pendingList, acceptedList, rejectedList);
+        QMateRequest qmateRequest = QMateRequest.mateRequest;
+        QUserOnboardingInfo qonboardingInfo = QUserOnboardingInfo.userOnboardingInfo;
 
-        List<MatePost> matePosts = matePostRepository.findAllByUser(user);
-        processMatePosts(matePosts, pendingList, acceptedList, notificationList);
+        MatePostStatusDTO.MateRequestSummaryDTO summaryDTO = new MatePostStatusDTO.MateRequestSummaryDTO();
+        summaryDTO.setNotification(notifications.stream()
+                .map(row -> convertToNotificationDTO(row.get(qmateRequest), row.get(qonboardingInfo)))
+                .toList());
+        summaryDTO.setPending(pendingPosts.stream()
+                .map(post -> convertToMatePostStatusDTO(post, isOwner(post, userId)))
+                .toList());
+        summaryDTO.setAccepted(acceptedPosts.stream()
+                .map(post -> convertToAcceptedPostStatusDTO(post, isOwner(post, userId)))
+                .toList());
+        summaryDTO.setRejected(rejectedPosts.stream()
+                .map(post -> convertToMatePostStatusDTO(post, isOwner(post, userId)))
+                .toList());
+
+        if (notifications.size() == SUMMARY_PAGE_SIZE) {
+            MateRequest last = notifications.get(notifications.size() - 1).get(qmateRequest);
+            summaryDTO.setNotificationCursor(last.getAppliedAt() + "_" + last.getRequestId());
+        }
+        summaryDTO.setPendingCursor(buildPostCursor(pendingPosts));
+        summaryDTO.setAcceptedCursor(buildPostCursor(acceptedPosts));
+        summaryDTO.setRejectedCursor(buildPostCursor(rejectedPosts));
 
-        return buildSummaryDTO(notificationList, acceptedList, pendingList, rejectedList);
+        return summaryDTO;
     }
 
-    private void processMateRequests(List<MateRequest> mateRequests,
-                                     List<MatePostStatusDTO.RequestedPostStatusDTO> pendingList,
-                                     List<MatePostStatusDTO.AcceptedPostStatusDTO> acceptedList,
-                                     List<MatePostStatusDTO.RequestedPostStatusDTO> rejectedList) {
-        for (MateRequest mateRequest : mateRequests) {
-            MatePost matePost = mateRequest.getMatePost();
+    @Transactional(readOnly = true)
+    public List<MatePostStatusDTO.RankedApplicantDTO> getRankedApplicants(HttpServletRequest request, HttpServletResponse response,
+                                                                          UUID mateId, String cursor) {
+        UUID userId = tokenServiceImpl.getUserIdFromAccessToken(request, response);
+        User user = userRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserException(UserErrorResult.NOT_FOUND_USER));
 
-            switch (mateRequest.getStatus()) {
-                case PENDING -> pendingList.add(convertToMatePostStatusDTO(matePost, false));
-                case ACCEPTED -> acceptedList.add(convertToAcceptedPostStatusDTO(matePost, false));
-                case REJECTED -> rejectedList.add(convertToMatePostStatusDTO(matePost, false));
-            }
+        MatePost matePost = matePostRepository.findById(mateId)
+                .orElseThrow(() -> new PostException(PostErrorResult.NOT_FOUND_MATE_POST));
+        if (!matePost.getUser().getUserId().equals(userId)) {
+            throw new PostException(PostErrorResult.UNAUTHORIZED_ACCESS);
         }
+
+        UserOnboardingInfo ownerInfo = userOnboardingInfoRepository.findByUser(user);
+        TeamEnum ownerTeam = ownerInfo != null ? toTeam(ownerInfo.getTeam()) : null;
+        AgeRangeEnum ownerAge = AgeRangeEnum.fromAge(user.getAge());
+
+        List<RankedApplicant> rankedApplicants = mateRequestRepository.findApplicantsByMatePostAndStatus(matePost, ApplicationStatusEnum.PENDING)
+                .stream()
+                .map(applicant -> new RankedApplicant(
+                        scoreApplicant(matePost, ownerTeam, ownerAge, applicant),
+                        applicant.getAppliedAt(),
+                        applicant.getRequestId(),
+                        applicant))
+                .sorted(APPLICANT_ORDER)
+                .toList();
+
+        RankedApplicant after = parseApplicantCursor(cursor);
+        return rankedApplicants.stream()
+                .filter(ranked -> after == null || APPLICANT_ORDER.compare(ranked, after) > 0)
+                .limit(APPLICANT_PAGE_SIZE)
+                .map(this::convertToRankedApplicantDTO)
+                .toList();
     }
 
-    private void processMatePosts(List<MatePost> matePosts,
-                                  List<MatePostStatusDTO.RequestedPostStatusDTO> pendingList,
-                                  List<MatePostStatusDTO.AcceptedPostStatusDTO> acceptedList,
-                                  List<MatePostStatusDTO.AppliedRequestNotificationDTO> notificationList) {
-        for (MatePost matePost : matePosts) {
-            long confirmedMemberCount = matePost.getConfirmedMembers();
+    private int scoreApplicant(MatePost matePost, TeamEnum ownerTeam, AgeRangeEnum ownerAge, MateRequestRepository.ApplicantView applicant) {
+        AgeRangeEnum applicantAge = AgeRangeEnum.fromAge(applicant.getAge());
+        TeamEnum applicantTeam = toTeam(applicant.getTeam());
+
+        int score = 0;
+        if (isGenderAllowed(matePost.getGender(), applicant.getGender())) score += GENDER_WEIGHT;
+        if (matePost.getAge() == applicantAge) score += AGE_WEIGHT;
+        if (applicantTeam != null && applicantTeam == matePost.getHomeTeam()) score += TEAM_WEIGHT;
+        if (applicantTeam != null && applicantTeam == ownerTeam) score += OWNER_TEAM_WEIGHT;
+        if (applicantAge == ownerAge) score += OWNER_AGE_WEIGHT;
+        return score;
+    }
 
-            if (confirmedMemberCount == 1) {
-                pendingList.add(convertToMatePostStatusDTO(matePost, true));
-            } else if (confirmedMemberCount >= 2) {
-                acceptedList.add(convertToAcceptedPostStatusDTO(matePost, true));
-            }
+    private boolean isGenderAllowed(GenderEnum postGender, Integer applicantGender) {
+        return switch (postGender) {
+            case MALE_ONLY -> applicantGender == 1;
+            case FEMALE_ONLY -> applicantGender == 2;
+            case ANY -> true;
+        };
+    }
 
-            List<MatePostStatusDTO.AppliedRequestNotificationDTO> pendingNotifications = matePost.getMateRequestList().stream()
-                    .filter(mateRequest -> mateRequest.getStatus() == ApplicationStatusEnum.PENDING)
-                    .map(this::convertToNotificationDTO)
-                    .collect(Collectors.toList());
+    private TeamEnum toTeam(String team) {
+        if (team == null) return null;
+        try {
+            return TeamEnum.fromString(team);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 
-            notificationList.addAll(pendingNotifications);
+    private RankedApplicant parseApplicantCursor(String cursor) {
+        if (cursor == null) {
+            return null;
         }
+        String[] parts = cursor.split("_");
+        return new RankedApplicant(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]), null);
     }
 
-    private MatePostStatusDTO.MateRequestSummaryDTO buildSummaryDTO(
-            List<MatePostStatusDTO.AppliedRequestNotificationDTO> notificationList,
-            List<MatePostStatusDTO.AcceptedPostStatusDTO> acceptedList,
-            List<MatePostStatusDTO.RequestedPostStatusDTO> pendingList,
-            List<MatePostStatusDTO.RequestedPostStatusDTO> rejectedList) {
+    private MatePostStatusDTO.RankedApplicantDTO convertToRankedApplicantDTO(RankedApplicant ranked) {
+        MateRequestRepository.ApplicantView applicant = ranked.getApplicant();
 
-        MatePostStatusDTO.MateRequestSummaryDTO summaryDTO = new MatePostStatusDTO.MateRequestSummaryDTO();
-        summaryDTO.setNotification(notificationList);
-        summaryDTO.setPending(pendingList);
-        summaryDTO.setAccepted(acceptedList);
-        summaryDTO.setRejected(rejectedList);
+        return new MatePostStatusDTO.RankedApplicantDTO(
+                ranked.getRequestId(),
+                applicant.getNickName(),
+                ranked.getCompatibility(),
+                (int) ChronoUnit.DAYS.between(ranked.getAppliedAt().toLocalDate(), LocalDate.now()),
+                ranked.getCompatibility() + "_" + ranked.getAppliedAt() + "_" + ranked.getRequestId(),
+                new MatePostStatusDTO.ApplicantInfo(
+                        applicant.getAge(),
+                        applicant.getGender() == 1 ? "남성" : "여성",
+                        applicant.getTeam(),
+                        applicant.getIntroduction(),
+                        applicant.getProfileImg()
+                )
+        );
+    }
 
-        return summaryDTO;
+    private List<Tuple> findPendingNotifications(UUID ownerId, String cursor) {
+        QMateRequest qmateRequest = QMateRequest.mateRequest;
+        QMatePost qmatePost = QMatePost.matePost;
+        QUser qapplicant = QUser.user;
+        QUserOnboardingInfo qonboardingInfo = QUserOnboardingInfo.userOnboardingInfo;
+
+        BooleanBuilder builder = new BooleanBuilder(qmatePost.user.userId.eq(ownerId)
+                .and(qmateRequest.status.eq(ApplicationStatusEnum.PENDING)));
+        if (cursor != null) {
+            String[] parts = cursor.split("_");
+            LocalDateTime appliedAtCursor = LocalDateTime.parse(parts[0]);
+            UUID requestIdCursor = UUID.fromString(parts[1]);
+
+            builder.and(qmateRequest.appliedAt.lt(appliedAtCursor)
+                    .or(qmateRequest.appliedAt.eq(appliedAtCursor).and(qmateRequest.requestId.lt(requestIdCursor))));
+        }
+
+        return queryFactory.select(qmateRequest, qonboardingInfo)
+                .from(qmateRequest)
+                .join(qmateRequest.matePost, qmatePost).fetchJoin()
+                .join(qmateRequest.applicant, qapplicant).fetchJoin()
+                .leftJoin(qonboardingInfo).on(qonboardingInfo.user.eq(qapplicant))
+                .where(builder)
+                .orderBy(qmateRequest.appliedAt.desc(), qmateRequest.requestId.desc())
+                .limit(SUMMARY_PAGE_SIZE)
+                .fetch();
+    }
+
+    private List<MatePost> findSummaryPosts(UUID userId, ApplicationStatusEnum status, BooleanExpression ownedCondition, String cursor) {
+        QMatePost qmatePost = QMatePost.matePost;
+        QMateRequest qmateRequest = QMateRequest.mateRequest;
+
+        BooleanExpression requested = JPAExpressions.selectOne()
+                .from(qmateRequest)
+                .where(qmateRequest.matePost.eq(qmatePost),
+                        qmateRequest.applicant.userId.eq(userId),
+                        qmateRequest.status.eq(status))
+                .exists();
+        BooleanBuilder builder = new BooleanBuilder(ownedCondition != null
+                ? qmatePost.user.userId.eq(userId).and(ownedCondition).or(requested)
+                : requested);
+
+        if (cursor != null) {
+            String[] parts = cursor.split("_");
+            LocalDateTime updatedAtCursor = LocalDateTime.parse(parts[0]);
+            UUID mateIdCursor = UUID.fromString(parts[1]);
+
+            builder.and(qmatePost.updatedAt.lt(updatedAtCursor)
+                    .or(qmatePost.updatedAt.eq(updatedAtCursor).and(qmatePost.mateId.lt(mateIdCursor))));
+        }
+
+        return queryFactory.selectFrom(qmatePost)
+                .where(builder)
+                .orderBy(qmatePost.updatedAt.desc(), qmatePost.mateId.desc())
+                .limit(SUMMARY_PAGE_SIZE)
+                .fetch();
+    }
+
+    private String buildPostCursor(List<MatePost> posts) {
+        if (posts.size() < SUMMARY_PAGE_SIZE) {
+            return null;
+        }
+        MatePost last = posts.get(posts.size() - 1);
+        return last.getUpdatedAt() + "_" + last.getMateId();
+    }
+
+    private boolean isOwner(MatePost matePost, UUID userId) {
+        return matePost.getUser().getUserId().equals(userId);
     }
 
-    private MatePostStatusDTO.AppliedRequestNotificationDTO convertToNotificationDTO(MateRequest mateRequest) {
+    private MatePostStatusDTO.AppliedRequestNotificationDTO convertToNotificationDTO(MateRequest mateRequest, UserOnboardingInfo applicantInfo) {
         MatePost matePost = mateRequest.getMatePost();
         User applicant = mateRequest.getApplicant();
-        UserOnboardingInfo applicantInfo = userOnboardingInfoRepository.findByUser(applicant);
 
         return new MatePostStatusDTO.AppliedRequestNotificationDTO(
                 mateRequest.getRequestId(),
                 matePost.getTitle(),
-                applicantInfo.getNickName(),
+                applicantInfo != null ? applicantInfo.getNickName() : null,
                 new MatePostStatusDTO.ApplicantInfo(
                         applicant.getAge(),
                         applicant.getGenderKorean(),
-                        applicantInfo.getTeam(),
-                        applicantInfo.getIntroduction(),
-                        applicantInfo.getProfileImg()
+                        applicantInfo != null ? applicantInfo.getTeam() : null,
+                        applicantInfo != null ? applicantInfo.getIntroduction() : null,
+                        applicantInfo != null ? applicantInfo.getProfileImg() : null
                 )
         );
     }
@@ -165,8 +344,7 @@ public class MyPageService {
         LocalDate gameDate = matePost.getGameDate();
         String formattedGameDate = String.format("%02d-%02d", gameDate.getMonthValue(), gameDate.getDayOfMonth());
 
-        String homeTeam = matePost.getHomeTeam().toKorean();
-        String firstWordOfHomeTeam = homeTeam.split(" ")[0];
+        String firstWordOfHomeTeam = matePost.getHomeTeam().toShortKorean();
 
         return new MatePostStatusDTO.RequestedPostStatusDTO(
                 isOwner,
@@ -191,8 +369,7 @@ public class MyPageService {
         LocalDate gameDate = matePost.getGameDate();
         String formattedGameDate = String.format("%02d-%02d", gameDate.getMonthValue(), gameDate.getDayOfMonth());
 
-        String homeTeam = matePost.getHomeTeam().toKorean();
-        String firstWordOfHomeTeam = homeTeam.split(" ")[0];
+        String firstWordOfHomeTeam = matePost.getHomeTeam().toShortKorean();
 
         return new MatePostStatusDTO.AcceptedPostStatusDTO(
                 isOwner,
@@ -0,0 +1,154 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.dto.MateDTO;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class QuickMatchEngine {
+
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final Map<UUID, String> partitionByUser = new ConcurrentHashMap<>();
+
+    private static class Partition {
+        private final LocalDate date;
+        private final List<MateDTO.QuickMatchTicket> tickets = new ArrayList<>();
+
+        private Partition(LocalDate date) {
+            this.date = date;
+        }
+    }
+
+    public static String partitionKey(LocalDate date, StadiumEnum stadium) {
+        return date + ":" + stadium.name();
+    }
+
+    public List<MateDTO.QuickMatchTicket> enqueue(MateDTO.QuickMatchTicket ticket) {
+        cancel(ticket.getUserId());
+
+        String key = partitionKey(ticket.getDate(), ticket.getStadium());
+        Partition partition = partitions.computeIfAbsent(key, k -> new Partition(ticket.getDate()));
+
+        synchronized (partition) {
+            List<MateDTO.QuickMatchTicket> party = new ArrayList<>();
+            party.add(ticket);
+            for (MateDTO.QuickMatchTicket candidate : partition.tickets) {
+                if (party.size() == ticket.getPartySize()) break;
+                if (party.stream().allMatch(member -> isCompatible(member, candidate))) {
+                    party.add(candidate);
+                }
+            }
+
+            if (party.size() < ticket.getPartySize()) {
+                partition.tickets.add(ticket);
+                partitionByUser.put(ticket.getUserId(), key);
+                return Collections.emptyList();
+            }
+
+            partition.tickets.removeAll(party);
+            party.forEach(member -> partitionByUser.remove(member.getUserId()));
+            party.sort(Comparator.comparing(MateDTO.QuickMatchTicket::getEnqueuedAt));
+            return party;
+        }
+    }
+
+    public void load(String key, LocalDate date, List<MateDTO.QuickMatchTicket> tickets) {
+        tickets.stream()
+                .filter(ticket -> !key.equals(partitionByUser.get(ticket.getUserId())))
+                .forEach(ticket -> cancel(ticket.getUserId()));
+
+        Partition partition = partitions.computeIfAbsent(key, k -> new Partition(date));
+        synchronized (partition) {
+            partition.tickets.forEach(ticket -> partitionByUser.remove(ticket.getUserId(), key));
+            partition.tickets.clear();
+            partition.tickets.addAll(tickets);
+            partition.tickets.sort(Comparator.comparing(MateDTO.QuickMatchTicket::getEnqueuedAt));
+            tickets.forEach(ticket -> partitionByUser.put(ticket.getUserId(), key));
+        }
+    }
+
+    public void requeue(List<MateDTO.QuickMatchTicket> tickets) {
+        for (MateDTO.QuickMatchTicket ticket : tickets) {
+            String key = partitionKey(ticket.getDate(), ticket.getStadium());
+            Partition partition = partitions.computeIfAbsent(key, k -> new Partition(ticket.getDate()));
+            synchronized (partition) {
+                partition.tickets.add(ticket);
+                partition.tickets.sort(Comparator.comparing(MateDTO.QuickMatchTicket::getEnqueuedAt));
+                partitionByUser.put(ticket.getUserId(), key);
+            }
+        }
+    }
+
+    public Optional<MateDTO.QuickMatchTicket> cancel(UUID userId) {
+        String key = partitionByUser.remove(userId);
+        Partition partition = key != null ? partitions.get(key) : null;
+        if (partition == null) {
+            return Optional.empty();
+        }
+
+        synchronized (partition) {
+            Iterator<MateDTO.QuickMatchTicket> iterator = partition.tickets.iterator();
+            while (iterator.hasNext()) {
+                MateDTO.QuickMatchTicket ticket = iterator.next();
+                if (ticket.getUserId().equals(userId)) {
+                    iterator.remove();
+                    return Optional.of(ticket);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int waiting(LocalDate date, StadiumEnum stadium) {
+        Partition partition = partitions.get(partitionKey(date, stadium));
+        if (partition == null) {
+            return 0;
+        }
+        synchronized (partition) {
+            return partition.tickets.size();
+        }
+    }
+
+    public boolean isWaiting(UUID userId) {
+        return partitionByUser.containsKey(userId);
+    }
+
+    public List<MateDTO.QuickMatchTicket> dropBefore(LocalDate date) {
+        List<MateDTO.QuickMatchTicket> dropped = new ArrayList<>();
+        partitions.entrySet().removeIf(entry -> {
+            Partition partition = entry.getValue();
+            if (!partition.date.isBefore(date)) {
+                return false;
+            }
+            synchronized (partition) {
+                partition.tickets.forEach(ticket -> partitionByUser.remove(ticket.getUserId(), entry.getKey()));
+                dropped.addAll(partition.tickets);
+                partition.tickets.clear();
+            }
+            return true;
+        });
+        return dropped;
+    }
+
+    private boolean isCompatible(MateDTO.QuickMatchTicket left, MateDTO.QuickMatchTicket right) {
+        return left.getPartySize().equals(right.getPartySize())
+                && left.getTeam() == right.getTeam()
+                && allowsGender(left.getGenderPreference(), right.getGender())
+                && allowsGender(right.getGenderPreference(), left.getGender())
+                && (left.getAgePreference() == null || left.getAgePreference() == right.getAge())
+                && (right.getAgePreference() == null || right.getAgePreference() == left.getAge());
+    }
+
+    private boolean allowsGender(GenderEnum preference, Integer gender) {
+        return switch (preference) {
+            case MALE_ONLY -> gender == 1;
+            case FEMALE_ONLY -> gender == 2;
+            case ANY -> true;
+        };
+    }
+}
@@ -0,0 +1,202 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import com.boot.gugi.base.dto.MateDTO;
+import com.boot.gugi.exception.PostErrorResult;
+import com.boot.gugi.exception.PostException;
+import com.boot.gugi.exception.UserErrorResult;
+import com.boot.gugi.exception.UserException;
+import com.boot.gugi.model.User;
+import com.boot.gugi.repository.RedisRepository;
+import com.boot.gugi.repository.UserRepository;
+import com.boot.gugi.token.service.TokenServiceImpl;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+public class QuickMatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuickMatchService.class);
+    private static final long RESULT_EXPIRATION_TIME = 24 * 60 * 60 * 1000L;
+    private static final String STATUS_WAITING = "WAITING";
+    private static final String STATUS_MATCHED = "MATCHED";
+    private static final String STATUS_NONE = "NONE";
+    private static final String PARTITION_LOCK_PREFIX = "quickMatchLock:";
+    private static final long PARTITION_LOCK_WAIT_MILLIS = 3000;
+
+    private final TokenServiceImpl tokenServiceImpl;
+    private final UserRepository userRepository;
+    private final RedisRepository redisRepository;
+    private final QuickMatchEngine quickMatchEngine;
+    private final MateService mateService;
+
+    public MateDTO.QuickMatchResponse enqueue(HttpServletRequest request, HttpServletResponse response, MateDTO.QuickMatchRequest matchRequest) {
+        User user = validateUser(request, response);
+
+        Integer partySize = matchRequest.getMember();
+        if (partySize == null || partySize < 2 || partySize > 6) {
+            throw new PostException(PostErrorResult.INVALID_PARTY_SIZE);
+        }
+        if (matchRequest.getDate() == null || matchRequest.getDate().isBefore(LocalDate.now())) {
+            throw new PostException(PostErrorResult.PAST_GAME_DATE);
+        }
+
+        cancelTicket(user.getUserId());
+        MateDTO.QuickMatchTicket ticket = new MateDTO.QuickMatchTicket(
+                user.getUserId(),
+                matchRequest.getDate(),
+                StadiumEnum.fromString(matchRequest.getStadium()),
+                TeamEnum.fromString(matchRequest.getTeam()),
+                user.getGender(),
+                AgeRangeEnum.fromAge(user.getAge()),
+                matchRequest.getGender() != null ? GenderEnum.fromKorean(matchRequest.getGender()) : GenderEnum.ANY,
+                matchRequest.getAge() != null ? AgeRangeEnum.fromString(matchRequest.getAge()) : null,
+                partySize,
+                LocalDateTime.now());
+
+        UUID mateId = match(ticket);
+        if (mateId != null) {
+            return new MateDTO.QuickMatchResponse(STATUS_MATCHED, mateId, 0);
+        }
+        return new MateDTO.QuickMatchResponse(STATUS_WAITING, null,
+                quickMatchEngine.waiting(ticket.getDate(), ticket.getStadium()));
+    }
+
+    public MateDTO.QuickMatchResponse getStatus(HttpServletRequest request, HttpServletResponse response) {
+        User user = validateUser(request, response);
+
+        if (redisRepository.findQuickMatchPartition(user.getUserId()) != null) {
+            return new MateDTO.QuickMatchResponse(STATUS_WAITING, null, null);
+        }
+        UUID mateId = redisRepository.findQuickMatchResult(user.getUserId());
+        return new MateDTO.QuickMatchResponse(mateId != null ? STATUS_MATCHED : STATUS_NONE, mateId, null);
+    }
+
+    public void cancel(HttpServletRequest request, HttpServletResponse response) {
+        User user = validateUser(request, response);
+        cancelTicket(user.getUserId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverQueue() {
+        int recovered = 0;
+        for (String partitionKey : redisRepository.findQuickMatchPartitions()) {
+            List<MateDTO.QuickMatchTicket> tickets = new ArrayList<>();
+            boolean locked = redisRepository.runExclusively(PARTITION_LOCK_PREFIX + partitionKey, PARTITION_LOCK_WAIT_MILLIS,
+                    () -> tickets.addAll(recoverPartition(partitionKey)));
+            if (!locked) {
+                logger.warn("Skipped recovering quick match partition {} held by another instance.", partitionKey);
+            }
+            recovered += tickets.size();
+        }
+        logger.info("Recovered {} quick match tickets.", recovered);
+    }
+
+    private List<MateDTO.QuickMatchTicket> recoverPartition(String partitionKey) {
+        List<MateDTO.QuickMatchTicket> tickets = redisRepository.findQuickMatchTickets(partitionKey);
+        if (tickets.isEmpty()) {
+            return tickets;
+        }
+        if (tickets.get(0).getDate().isBefore(LocalDate.now())) {
+            redisRepository.deleteQuickMatchTickets(partitionKey, tickets.stream().map(MateDTO.QuickMatchTicket::getUserId).toList());
+            return tickets;
+        }
+
+        tickets.sort(Comparator.comparing(MateDTO.QuickMatchTicket::getEnqueuedAt));
+        for (MateDTO.QuickMatchTicket ticket : tickets) {
+            if (!partitionKey.equals(redisRepository.findQuickMatchPartition(ticket.getUserId()))) continue;
+
+            matchInPartition(partitionKey, ticket);
+        }
+        return tickets;
+    }
+
+    @Scheduled(cron = "0 0 0 * * ?")
+    public void dropPastGames() {
+        LocalDate today = LocalDate.now();
+        quickMatchEngine.dropBefore(today);
+        for (String partitionKey : redisRepository.findQuickMatchPartitions()) {
+            List<MateDTO.QuickMatchTicket> tickets = redisRepository.findQuickMatchTickets(partitionKey);
+            if (!tickets.isEmpty() && tickets.get(0).getDate().isBefore(today)) {
+                redisRepository.deleteQuickMatchTickets(partitionKey, tickets.stream().map(MateDTO.QuickMatchTicket::getUserId).toList());
+            }
+        }
+    }
+
+    private UUID match(MateDTO.QuickMatchTicket ticket) {
+        String partitionKey = partitionKey(ticket);
+        AtomicReference<UUID> mateId = new AtomicReference<>();
+        boolean locked = redisRepository.runExclusively(PARTITION_LOCK_PREFIX + partitionKey, PARTITION_LOCK_WAIT_MILLIS,
+                () -> mateId.set(matchInPartition(partitionKey, ticket)));
+        if (!locked) {
+            throw new PostException(PostErrorResult.QUICK_MATCH_BUSY);
+        }
+        return mateId.get();
+    }
+
+    private UUID matchInPartition(String partitionKey, MateDTO.QuickMatchTicket ticket) {
+        quickMatchEngine.load(partitionKey, ticket.getDate(), redisRepository.findQuickMatchTickets(partitionKey));
+        List<MateDTO.QuickMatchTicket> party = quickMatchEngine.enqueue(ticket);
+        if (party.isEmpty()) {
+            redisRepository.saveQuickMatchTicket(partitionKey, ticket);
+            return null;
+        }
+
+        try {
+            UUID mateId = mateService.createQuickMatchPost(party);
+            redisRepository.deleteQuickMatchTickets(partitionKey, party.stream().map(MateDTO.QuickMatchTicket::getUserId).toList());
+            party.forEach(member -> redisRepository.saveQuickMatchResult(member.getUserId(), mateId, RESULT_EXPIRATION_TIME));
+            return mateId;
+        } catch (RuntimeException e) {
+            logger.error("Failed to create quick match post for {}: {}", partitionKey, e.getMessage(), e);
+            quickMatchEngine.requeue(party);
+            party.forEach(member -> redisRepository.saveQuickMatchTicket(partitionKey, member));
+            return null;
+        }
+    }
+
+    private void cancelTicket(UUID userId) {
+        String partitionKey = redisRepository.findQuickMatchPartition(userId);
+        if (partitionKey == null) {
+            quickMatchEngine.cancel(userId);
+            return;
+        }
+
+        boolean locked = redisRepository.runExclusively(PARTITION_LOCK_PREFIX + partitionKey, PARTITION_LOCK_WAIT_MILLIS, () -> {
+            quickMatchEngine.cancel(userId);
+            redisRepository.deleteQuickMatchTickets(partitionKey, List.of(userId));
+        });
+        if (!locked) {
+            throw new PostException(PostErrorResult.QUICK_MATCH_BUSY);
+        }
+    }
+
+    private String partitionKey(MateDTO.QuickMatchTicket ticket) {
+        return QuickMatchEngine.partitionKey(ticket.getDate(), ticket.getStadium());
+    }
+
+    private User validateUser(HttpServletRequest request, HttpServletResponse response) {
+        UUID userId = tokenServiceImpl.getUserIdFromAccessToken(request, response);
+        return userRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserException(UserErrorResult.NOT_FOUND_USER));
+    }
+}
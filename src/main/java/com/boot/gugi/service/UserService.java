@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 import jakarta.transaction.Transactional;
@@ -49,6 +50,12 @@ public class UserService {
     private final DiaryRepository diaryRepository;
     private final MatePostRepository matePostRepository;
     private final MateRequestRepository mateRequestRepository;
+    private final MateService mateService;
+    private final MateSearchService mateSearchService;
+    private final MateRecommender mateRecommender;
+    private final MateInboxService mateInboxService;
+    private final DiaryStatsService diaryStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
@@ -144,6 +151,9 @@ public class UserService {
 
         UserOnboardingInfo updatedUser = updateUserDTO(user, userDTO, uploadedImageUrl);
         userOnboardingInfoRepository.save(updatedUser);
+        mateService.evictMateDetails(matePostRepository.findAllByUser(user).stream().map(MatePost::getMateId).toList());
+        eventPublisher.publishEvent(new UserDTO.UserUpdatedEvent(user.getUserId()));
+        diaryStatsService.evictStats(user.getUserId());
         return convertToUserDTO(updatedUser);
     }
 
@@ -212,9 +222,16 @@ public class UserService {
             mateRequestRepository.deleteAllByMatePost(post);
             matePostRepository.delete(post);
         }
+        mateService.evictMatePosts(matePostList);
 
         // request 삭제
+        mateService.evictMateDetails(mateRequestRepository.findAllByApplicant(user).stream()
+                .map(mateRequest -> mateRequest.getMatePost().getMateId()).toList());
         mateRequestRepository.deleteAllByApplicant(user);
+        mateSearchService.deleteSearches(user);
+        mateRecommender.removeUser(userId);
+        mateInboxService.deleteInbox(userId);
+        diaryStatsService.evictStats(userId);
         // diary 삭제
         diaryRepository.deleteAllByUserId(userId);
     }
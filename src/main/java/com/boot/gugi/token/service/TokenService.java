@@ -10,4 +10,5 @@ import java.util.UUID;
 public interface TokenService {
     String reissueAccessToken(HttpServletRequest request, HttpServletResponse response);
     UUID getUserIdFromAccessToken(HttpServletRequest request, HttpServletResponse response);
+    UUID findUserIdFromAccessToken(HttpServletRequest request);
 }
\ No newline at end of file
@@ -85,6 +85,24 @@ public class TokenServiceImpl implements TokenService {
         return userId;
     }
 
+    @Override
+    public UUID findUserIdFromAccessToken(HttpServletRequest request) {
+        Cookie cookie = cookieUtil.getAccessCookie(request);
+        String accessToken = (cookie != null) ? cookie.getValue() : null;
+        if (accessToken == null || isTokenBlacklisted(accessToken)) {
+            return null;
+        }
+
+        try {
+            if (jwtUtil.isTokenExpired(accessToken)) {
+                return null;
+            }
+            return UUID.fromString(jwtUtil.getUserIdFromToken(accessToken));
+        } catch (TokenException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public void addToBlacklist(String token, Date expirationDate) {
         long expirationMillis = expirationDate.getTime() - System.currentTimeMillis();
         if (expirationMillis > 0) {
@@ -0,0 +1,101 @@
+package com.boot.gugi.repository;
+
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.model.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MatePostRepositoryTest {
+
+    private static final int POST_COUNT = 12;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private MatePostRepository matePostRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private final List<UUID> mateIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < POST_COUNT; i++) {
+            User writer = entityManager.persist(User.builder()
+                    .provider("kakao")
+                    .providerId("provider-" + i)
+                    .name("writer" + i)
+                    .email("writer" + i + "@gugi.com")
+                    .gender(1)
+                    .age(20)
+                    .build());
+
+            MatePost post = entityManager.persist(MatePost.builder()
+                    .user(writer)
+                    .title("title" + i)
+                    .content("content" + i)
+                    .contact("contact" + i)
+                    .gender(GenderEnum.ANY)
+                    .age(AgeRangeEnum.AGE_20s)
+                    .gameDate(LocalDate.now().plusDays(1))
+                    .homeTeam(TeamEnum.LG)
+                    .member(4)
+                    .gameStadium(StadiumEnum.JAMSIL)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now().minusMinutes(i))
+                    .build());
+            mateIds.add(post.getMateId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void latestFeedPageUsesSingleStatement() {
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "updatedAt"));
+
+        List<MatePostRepository.MateCardView> firstPage = matePostRepository.findCardsBy(pageable);
+        assertThat(firstPage).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        LocalDateTime cursor = firstPage.get(PAGE_SIZE - 1).getUpdatedAt();
+        List<MatePostRepository.MateCardView> nextPage = matePostRepository.findCardsByUpdatedAtLessThan(cursor, pageable);
+        assertThat(nextPage).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void cardPageByIdsUsesSingleStatement() {
+        List<MatePostRepository.MateCardView> cards = matePostRepository.findCardsByMateIdIn(mateIds.subList(0, PAGE_SIZE));
+
+        assertThat(cards).hasSize(PAGE_SIZE);
+        cards.forEach(card -> assertThat(card.getHomeTeam().toShortKorean()).isEqualTo("LG"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
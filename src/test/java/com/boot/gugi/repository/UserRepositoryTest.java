@@ -0,0 +1,86 @@
+package com.boot.gugi.repository;
+
+import com.boot.gugi.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .provider("kakao")
+                .providerId("provider")
+                .name("writer")
+                .email("writer@gugi.com")
+                .gender(1)
+                .age(20)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        userId = user.getUserId();
+    }
+
+    @Test
+    void increaseDiaryStatisticsAddsDiaryAndWin() {
+        int updatedRows = userRepository.increaseDiaryStatistics(userId, 1, 1);
+
+        User user = reload();
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(user.getTotalDiaryCount()).isEqualTo(1);
+        assertThat(user.getTotalWins()).isEqualTo(1);
+        assertThat(user.getWinRate()).isEqualByComparingTo("100");
+    }
+
+    @Test
+    void increaseDiaryStatisticsComputesWinRateFromUpdatedTotals() {
+        userRepository.increaseDiaryStatistics(userId, 1, 1);
+        userRepository.increaseDiaryStatistics(userId, 1, 0);
+        userRepository.increaseDiaryStatistics(userId, 1, 0);
+
+        User user = reload();
+        assertThat(user.getTotalDiaryCount()).isEqualTo(3);
+        assertThat(user.getTotalWins()).isEqualTo(1);
+        assertThat(user.getWinRate()).isEqualByComparingTo("33.33");
+    }
+
+    @Test
+    void increaseDiaryStatisticsTurnsWinIntoLose() {
+        userRepository.increaseDiaryStatistics(userId, 1, 1);
+        userRepository.increaseDiaryStatistics(userId, 1, 0);
+        assertThat(reload().getWinRate()).isEqualByComparingTo("50");
+
+        userRepository.increaseDiaryStatistics(userId, 0, -1);
+
+        User user = reload();
+        assertThat(user.getTotalDiaryCount()).isEqualTo(2);
+        assertThat(user.getTotalWins()).isZero();
+        assertThat(user.getWinRate()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void increaseDiaryStatisticsIgnoresUnknownUser() {
+        assertThat(userRepository.increaseDiaryStatistics(UUID.randomUUID(), 1, 1)).isZero();
+    }
+
+    private User reload() {
+        entityManager.clear();
+        return userRepository.findByUserId(userId).orElseThrow();
+    }
+}
@@ -0,0 +1,64 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MateDuplicateIndexTest {
+
+    private static final LocalDate GAME_DATE = LocalDate.of(2030, 5, 1);
+    private static final String CONTENT = "이번 주말 잠실 경기 같이 보실 분 구해요 응원석에서 치킨 먹으면서 봐요";
+
+    private final MateDuplicateIndex mateDuplicateIndex = new MateDuplicateIndex(null);
+    private final User writer = User.builder().userId(UUID.randomUUID()).build();
+
+    @Test
+    void rejectsRepostOfSameContentBySameWriter() {
+        assertThat(mateDuplicateIndex.indexIfUnique(post(writer, GAME_DATE, CONTENT))).isTrue();
+
+        assertThat(mateDuplicateIndex.indexIfUnique(post(writer, GAME_DATE, CONTENT))).isFalse();
+    }
+
+    @Test
+    void allowsSameContentFromOtherWritersOrDates() {
+        User other = User.builder().userId(UUID.randomUUID()).build();
+        mateDuplicateIndex.indexIfUnique(post(writer, GAME_DATE, CONTENT));
+
+        assertThat(mateDuplicateIndex.indexIfUnique(post(other, GAME_DATE, CONTENT))).isTrue();
+        assertThat(mateDuplicateIndex.indexIfUnique(post(writer, GAME_DATE.plusDays(1), CONTENT))).isTrue();
+        assertThat(mateDuplicateIndex.indexIfUnique(post(writer, GAME_DATE, "고척 돔구장 야간 경기 혼자 가기 심심해서 동행 찾습니다"))).isTrue();
+    }
+
+    @Test
+    void ignoresOwnEntryWhenUpdating() {
+        MatePost post = post(writer, GAME_DATE, CONTENT);
+        mateDuplicateIndex.indexIfUnique(post);
+
+        post.setContent(CONTENT + " 편하게 연락 주세요");
+
+        assertThat(mateDuplicateIndex.indexIfUnique(post)).isTrue();
+    }
+
+    @Test
+    void allowsRepostAfterRemoval() {
+        MatePost post = post(writer, GAME_DATE, CONTENT);
+        mateDuplicateIndex.indexIfUnique(post);
+        mateDuplicateIndex.remove(post.getMateId());
+
+        assertThat(mateDuplicateIndex.indexIfUnique(post(writer, GAME_DATE, CONTENT))).isTrue();
+    }
+
+    private MatePost post(User user, LocalDate gameDate, String content) {
+        return MatePost.builder()
+                .mateId(UUID.randomUUID())
+                .user(user)
+                .content(content)
+                .gameDate(gameDate)
+                .build();
+    }
+}
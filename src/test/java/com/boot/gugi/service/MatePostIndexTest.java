@@ -0,0 +1,105 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import com.boot.gugi.base.dto.MateDTO;
+import com.boot.gugi.model.MatePost;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatePostIndexTest {
+
+    private static final LocalDate GAME_DATE = LocalDate.of(2030, 5, 1);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2030, 4, 1, 12, 0);
+
+    private final MatePostIndex matePostIndex = new MatePostIndex(null);
+
+    @Test
+    void countsMatchedFiltersPerPost() {
+        MatePost all = post(GenderEnum.MALE_ONLY, AgeRangeEnum.AGE_20s, TeamEnum.LG, StadiumEnum.JAMSIL, 4, GAME_DATE, 0);
+        MatePost five = post(GenderEnum.MALE_ONLY, AgeRangeEnum.AGE_20s, TeamEnum.LG, StadiumEnum.JAMSIL, 4, GAME_DATE.plusDays(1), 1);
+        MatePost one = post(GenderEnum.ANY, AgeRangeEnum.AGE_30s, TeamEnum.KT, StadiumEnum.SUWON, 4, GAME_DATE.plusDays(1), 2);
+        MatePost none = post(GenderEnum.ANY, AgeRangeEnum.AGE_30s, TeamEnum.KT, StadiumEnum.SUWON, 2, GAME_DATE.plusDays(1), 3);
+        List.of(all, five, one, none).forEach(matePostIndex::index);
+
+        List<MatePostIndex.Match> matches = matePostIndex.findByRelevance(allOptions(), null, null, null, null, 10);
+
+        assertThat(matches).extracting(MatePostIndex.Match::getMateId)
+                .containsExactly(all.getMateId(), five.getMateId(), one.getMateId());
+        assertThat(matches).extracting(MatePostIndex.Match::getMatchCount).containsExactly(6, 5, 1);
+    }
+
+    @Test
+    void resumesAfterCursorWithinTheSameMatchCount() {
+        MatePost newer = post(GenderEnum.ANY, AgeRangeEnum.AGE_20s, TeamEnum.LG, StadiumEnum.JAMSIL, 4, GAME_DATE, 1);
+        MatePost older = post(GenderEnum.ANY, AgeRangeEnum.AGE_20s, TeamEnum.LG, StadiumEnum.JAMSIL, 4, GAME_DATE, 2);
+        MatePost weaker = post(GenderEnum.ANY, AgeRangeEnum.AGE_20s, TeamEnum.KT, StadiumEnum.SUWON, 4, GAME_DATE, 3);
+        List.of(newer, older, weaker).forEach(matePostIndex::index);
+
+        List<MatePostIndex.Match> firstPage = matePostIndex.findByRelevance(allOptions(), null, null, null, null, 1);
+        MatePostIndex.Match last = firstPage.get(0);
+        List<MatePostIndex.Match> nextPage = matePostIndex.findByRelevance(allOptions(), null,
+                last.getMatchCount(), last.getUpdatedAt(), last.getMateId(), 10);
+
+        assertThat(firstPage).extracting(MatePostIndex.Match::getMateId).containsExactly(newer.getMateId());
+        assertThat(nextPage).extracting(MatePostIndex.Match::getMateId)
+                .containsExactly(older.getMateId(), weaker.getMateId());
+    }
+
+    @Test
+    void removedSlotIsReusedWithoutStaleBits() {
+        MatePost removed = post(GenderEnum.MALE_ONLY, AgeRangeEnum.AGE_20s, TeamEnum.LG, StadiumEnum.JAMSIL, 4, GAME_DATE, 0);
+        matePostIndex.index(removed);
+        matePostIndex.remove(removed.getMateId());
+        MatePost replacement = post(GenderEnum.ANY, AgeRangeEnum.AGE_30s, TeamEnum.LG, StadiumEnum.SUWON, 2, GAME_DATE.plusDays(1), 1);
+        matePostIndex.index(replacement);
+
+        List<MatePostIndex.Match> matches = matePostIndex.findByRelevance(allOptions(), null, null, null, null, 10);
+
+        assertThat(matches).extracting(MatePostIndex.Match::getMateId).containsExactly(replacement.getMateId());
+        assertThat(matches).extracting(MatePostIndex.Match::getMatchCount).containsExactly(1);
+    }
+
+    @Test
+    void keywordRestrictsMatchesIncludingUnfilteredPosts() {
+        MatePost matching = post(GenderEnum.ANY, AgeRangeEnum.AGE_30s, TeamEnum.KT, StadiumEnum.SUWON, 2, GAME_DATE.plusDays(1), 0);
+        matching.setContent("잠실 직관 같이 가요");
+        MatePost other = post(GenderEnum.MALE_ONLY, AgeRangeEnum.AGE_20s, TeamEnum.LG, StadiumEnum.JAMSIL, 4, GAME_DATE, 1);
+        List.of(matching, other).forEach(matePostIndex::index);
+
+        List<MatePostIndex.Match> matches = matePostIndex.findByRelevance(allOptions(), "직관", null, null, null, 10);
+
+        assertThat(matches).extracting(MatePostIndex.Match::getMateId).containsExactly(matching.getMateId());
+        assertThat(matches).extracting(MatePostIndex.Match::getMatchCount).containsExactly(0);
+    }
+
+    private MateDTO.RequestOption allOptions() {
+        return new MateDTO.RequestOption(GenderEnum.MALE_ONLY.toKorean(), AgeRangeEnum.AGE_20s.toKorean(), GAME_DATE,
+                "LG 트윈스", 4, "잠실 야구장");
+    }
+
+    private MatePost post(GenderEnum gender, AgeRangeEnum age, TeamEnum team, StadiumEnum stadium, int member,
+                          LocalDate gameDate, int minutes) {
+        return MatePost.builder()
+                .mateId(UUID.randomUUID())
+                .title("같이 응원해요")
+                .content("응원 메이트 구합니다")
+                .contact("open.kakao.com")
+                .gender(gender)
+                .age(age)
+                .gameDate(gameDate)
+                .homeTeam(team)
+                .member(member)
+                .gameStadium(stadium)
+                .updatedAt(UPDATED_AT.minusMinutes(minutes))
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import com.boot.gugi.base.config.QuerydslConfig;
+import com.boot.gugi.base.dto.MateDTO;
+import com.boot.gugi.model.MatePost;
+import com.boot.gugi.model.User;
+import com.boot.gugi.repository.RedisRepository;
+import com.boot.gugi.token.service.TokenServiceImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({MateService.class, QuerydslConfig.class})
+class MateServiceTest {
+
+    private static final int POST_COUNT = 12;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private MateService mateService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private RedisRepository redisRepository;
+    @MockBean
+    private TokenServiceImpl tokenServiceImpl;
+    @MockBean
+    private MatePostIndex matePostIndex;
+    @MockBean
+    private MateViewCounter mateViewCounter;
+    @MockBean
+    private MateRecommender mateRecommender;
+    @MockBean
+    private MateDuplicateIndex mateDuplicateIndex;
+    @MockBean
+    private MateTrendingRanker mateTrendingRanker;
+    @MockBean
+    private MateInboxService mateInboxService;
+    @MockBean
+    private MateIndexSynchronizer mateIndexSynchronizer;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < POST_COUNT; i++) {
+            User writer = entityManager.persist(User.builder()
+                    .provider("kakao")
+                    .providerId("provider-" + i)
+                    .name("writer" + i)
+                    .email("writer" + i + "@gugi.com")
+                    .gender(1)
+                    .age(20)
+                    .build());
+
+            entityManager.persist(MatePost.builder()
+                    .user(writer)
+                    .title("title" + i)
+                    .content("content" + i)
+                    .contact("contact" + i)
+                    .gender(GenderEnum.ANY)
+                    .age(AgeRangeEnum.AGE_20s)
+                    .gameDate(LocalDate.now().plusDays(1))
+                    .homeTeam(TeamEnum.LG)
+                    .member(4)
+                    .gameStadium(StadiumEnum.JAMSIL)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now().minusMinutes(i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        given(redisRepository.isMateCacheSeeded(anyString())).willReturn(false);
+        given(redisRepository.findMateViewCounts(anyList())).willAnswer(invocation -> {
+            List<UUID> mateIds = invocation.getArgument(0);
+            Map<UUID, MateDTO.ViewCount> viewCounts = new HashMap<>();
+            mateIds.forEach(mateId -> viewCounts.put(mateId, new MateDTO.ViewCount(0L, 0L)));
+            return viewCounts;
+        });
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void latestFeedFallbackPageUsesSingleStatement() {
+        List<MateDTO.ResponseByDate> firstPage = mateService.getAllPostsSortedByDate(null);
+        assertThat(firstPage).hasSize(PAGE_SIZE);
+        firstPage.forEach(post -> assertThat(post.getOptions().getTeam()).isEqualTo("LG"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        LocalDateTime cursor = firstPage.get(PAGE_SIZE - 1).getUpdatedAt();
+        List<MateDTO.ResponseByDate> nextPage = mateService.getAllPostsSortedByDate(cursor);
+        assertThat(nextPage).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,57 @@
+package com.boot.gugi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MateTextIndexTest {
+
+    private final MateTextIndex textIndex = new MateTextIndex();
+
+    @Test
+    void findsContiguousKeywordInTitleOrContent() {
+        textIndex.add(0, "잠실 직관 메이트", "같이 응원해요");
+        textIndex.add(1, "주말 경기", "잠실 야구장에서 만나요");
+        textIndex.add(2, "고척 직관", "치킨 먹어요");
+
+        assertThat(textIndex.search("잠실")).isEqualTo(bits(0, 1));
+        assertThat(textIndex.search("야구장")).isEqualTo(bits(1));
+        assertThat(textIndex.search("직관 메이트")).isEqualTo(bits(0));
+    }
+
+    @Test
+    void rejectsGramsScatteredAcrossFields() {
+        textIndex.add(0, "야구 보러 가요", "구장 앞에서 만나요");
+
+        assertThat(textIndex.search("야구장")).isEqualTo(bits());
+    }
+
+    @Test
+    void matchesSingleLettersAndIgnoresCase() {
+        textIndex.add(0, "KT wiz 응원", "수원 직관");
+
+        assertThat(textIndex.search("kt")).isEqualTo(bits(0));
+        assertThat(textIndex.search("K")).isEqualTo(bits(0));
+        assertThat(textIndex.search("WIZ")).isEqualTo(bits(0));
+    }
+
+    @Test
+    void removedSlotNoLongerMatches() {
+        textIndex.add(0, "잠실 직관", "같이 가요");
+        textIndex.add(1, "잠실 응원", "같이 가요");
+        textIndex.remove(0);
+
+        assertThat(textIndex.search("잠실")).isEqualTo(bits(1));
+        assertThat(textIndex.search("직관")).isEqualTo(bits());
+    }
+
+    private BitSet bits(int... slots) {
+        BitSet bits = new BitSet();
+        for (int slot : slots) {
+            bits.set(slot);
+        }
+        return bits;
+    }
+}
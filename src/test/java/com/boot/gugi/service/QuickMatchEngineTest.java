@@ -0,0 +1,79 @@
+package com.boot.gugi.service;
+
+import com.boot.gugi.base.Enum.AgeRangeEnum;
+import com.boot.gugi.base.Enum.GenderEnum;
+import com.boot.gugi.base.Enum.StadiumEnum;
+import com.boot.gugi.base.Enum.TeamEnum;
+import com.boot.gugi.base.dto.MateDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuickMatchEngineTest {
+
+    private static final LocalDate GAME_DATE = LocalDate.of(2030, 5, 1);
+    private static final LocalDateTime ENQUEUED_AT = LocalDateTime.of(2030, 4, 1, 12, 0);
+
+    private final QuickMatchEngine quickMatchEngine = new QuickMatchEngine();
+
+    @Test
+    void formsPartyOnceEnoughCompatibleTicketsWait() {
+        MateDTO.QuickMatchTicket first = ticket(1, GenderEnum.ANY, 3, 0);
+        MateDTO.QuickMatchTicket second = ticket(2, GenderEnum.ANY, 3, 1);
+        MateDTO.QuickMatchTicket third = ticket(1, GenderEnum.ANY, 3, 2);
+
+        assertThat(quickMatchEngine.enqueue(first)).isEmpty();
+        assertThat(quickMatchEngine.enqueue(second)).isEmpty();
+        List<MateDTO.QuickMatchTicket> party = quickMatchEngine.enqueue(third);
+
+        assertThat(party).containsExactly(first, second, third);
+        assertThat(quickMatchEngine.waiting(GAME_DATE, StadiumEnum.JAMSIL)).isZero();
+        assertThat(quickMatchEngine.isWaiting(first.getUserId())).isFalse();
+    }
+
+    @Test
+    void skipsTicketsWhoseGenderPreferenceExcludesTheOther() {
+        MateDTO.QuickMatchTicket femaleOnly = ticket(2, GenderEnum.FEMALE_ONLY, 2, 0);
+        MateDTO.QuickMatchTicket male = ticket(1, GenderEnum.ANY, 2, 1);
+
+        quickMatchEngine.enqueue(femaleOnly);
+
+        assertThat(quickMatchEngine.enqueue(male)).isEmpty();
+        assertThat(quickMatchEngine.waiting(GAME_DATE, StadiumEnum.JAMSIL)).isEqualTo(2);
+    }
+
+    @Test
+    void cancelRemovesWaitingTicket() {
+        MateDTO.QuickMatchTicket ticket = ticket(1, GenderEnum.ANY, 2, 0);
+        quickMatchEngine.enqueue(ticket);
+
+        assertThat(quickMatchEngine.cancel(ticket.getUserId())).contains(ticket);
+        assertThat(quickMatchEngine.isWaiting(ticket.getUserId())).isFalse();
+        assertThat(quickMatchEngine.waiting(GAME_DATE, StadiumEnum.JAMSIL)).isZero();
+    }
+
+    @Test
+    void dropBeforeDiscardsPastPartitionsOnly() {
+        MateDTO.QuickMatchTicket past = ticket(1, GenderEnum.ANY, 2, 0);
+        MateDTO.QuickMatchTicket upcoming = ticket(1, GenderEnum.ANY, 2, 1);
+        upcoming.setDate(GAME_DATE.plusDays(1));
+        quickMatchEngine.enqueue(past);
+        quickMatchEngine.enqueue(upcoming);
+
+        List<MateDTO.QuickMatchTicket> dropped = quickMatchEngine.dropBefore(GAME_DATE.plusDays(1));
+
+        assertThat(dropped).containsExactly(past);
+        assertThat(quickMatchEngine.isWaiting(past.getUserId())).isFalse();
+        assertThat(quickMatchEngine.isWaiting(upcoming.getUserId())).isTrue();
+    }
+
+    private MateDTO.QuickMatchTicket ticket(int gender, GenderEnum genderPreference, int partySize, int minutes) {
+        return new MateDTO.QuickMatchTicket(UUID.randomUUID(), GAME_DATE, StadiumEnum.JAMSIL, TeamEnum.LG, gender,
+                AgeRangeEnum.AGE_20s, genderPreference, null, partySize, ENQUEUED_AT.plusMinutes(minutes));
+    }
+}